@@ -4,6 +4,7 @@ import com.hearo.community.dto.CommentCreateReq;
 import com.hearo.community.dto.CommentEditReq;
 import com.hearo.community.dto.CommentRes;
 import com.hearo.community.service.CommentService;
+import com.hearo.global.dto.CursorSlice;
 import com.hearo.global.response.ApiResponse;
 import com.hearo.global.response.SuccessStatus;
 import jakarta.validation.Valid;
@@ -28,6 +29,14 @@ public class CommentController {
         return ApiResponse.success(SuccessStatus.FETCHED, svc.listComments(postId, page, size));
     }
 
+    /** 게시물의 댓글 커서 목록 (cursor = 이전 응답의 nextCursor) */
+    @GetMapping("/{postId}/comments/feed")
+    public ResponseEntity<ApiResponse<CursorSlice<CommentRes>>> feed(@PathVariable Long postId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(SuccessStatus.FETCHED, svc.listCommentsAfter(postId, cursor, size));
+    }
+
     /** 특정 댓글의 대댓글 목록 */
     @GetMapping("/{postId}/comments/{commentId}/replies")
     public ResponseEntity<ApiResponse<Page<CommentRes>>> replies(@PathVariable Long postId,
@@ -8,6 +8,7 @@ import com.hearo.community.dto.PostDetailRes;
 import com.hearo.community.dto.PostRes;
 import com.hearo.community.service.PostCommandService;
 import com.hearo.community.service.PostQueryService;
+import com.hearo.global.dto.CursorSlice;
 import com.hearo.global.response.ApiResponse;
 import com.hearo.global.response.SuccessStatus;
 import jakarta.validation.Valid;
@@ -90,6 +91,35 @@ public class PostController {
         return ApiResponse.success(SuccessStatus.FETCHED, PostListRes.of(p));
     }
 
+    /* ===== 커서 피드 (cursor = 이전 응답의 nextCursor, 전체 개수 없음) ===== */
+
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorSlice<PostRes>>> feed(Authentication authentication,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "10") int size) {
+        Long uid = optionalUserId(authentication);
+        return ApiResponse.success(SuccessStatus.FETCHED, query.feed(cursor, size, uid));
+    }
+
+    @GetMapping("/me/feed")
+    public ResponseEntity<ApiResponse<CursorSlice<PostRes>>> myFeed(Authentication authentication,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        Long uid = requireUserId(authentication);
+        return ApiResponse.success(SuccessStatus.FETCHED, query.myPostsFeed(uid, cursor, size));
+    }
+
+    @GetMapping("/search/feed")
+    public ResponseEntity<ApiResponse<CursorSlice<PostRes>>> searchFeed(Authentication authentication,
+                                                                        @RequestParam(required = false) String q,
+                                                                        @RequestParam(required = false) PostCategory category,
+                                                                        @RequestParam(required = false) String tag,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "10") int size) {
+        Long uid = optionalUserId(authentication);
+        return ApiResponse.success(SuccessStatus.FETCHED, query.searchFeed(q, category, tag, cursor, size, uid));
+    }
+
     /* ===== 공통 유틸 ===== */
     private Long requireUserId(Authentication auth) {
         if (auth == null || !(auth.getPrincipal() instanceof Long uid) || uid <= 0)
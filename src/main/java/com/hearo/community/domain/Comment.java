@@ -4,6 +4,7 @@ import com.hearo.global.entity.BaseTimeEntity;
 import com.hearo.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
@@ -29,6 +30,10 @@ public class Comment extends BaseTimeEntity {
     @Column(nullable=false)
     private boolean deleted = false;
 
+    // CommentRepository 의 원자적 UPDATE 로만 증감
+    @ColumnDefault("0") @Column(nullable=false, updatable=false)
+    private long likeCount = 0;
+
     protected Comment() {}
 
     public static Comment of(Post post, User author, String content, Comment parent){
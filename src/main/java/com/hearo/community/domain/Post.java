@@ -5,6 +5,7 @@ import com.hearo.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -13,7 +14,13 @@ import java.util.Set;
 
 @Getter
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 피드 keyset: deleted = false 고정 후 (created_at, id) 역순 탐색
+        @Index(name = "idx_post_deleted_created", columnList = "deleted, created_at, id"),
+        @Index(name = "idx_post_author_deleted_created", columnList = "author_id, deleted, created_at, id"),
+        // 검색 색인 증분 따라잡기 (PostSearchBulkRepository.loadActiveModifiedSince)
+        @Index(name = "idx_post_modified", columnList = "modified_at")
+})
 @NamedEntityGraphs({
         @NamedEntityGraph(
                 name = "Post.withAuthorAndImages",
@@ -49,6 +56,16 @@ public class Post extends BaseTimeEntity {
     @Column(nullable=false)
     private boolean deleted = false;
 
+    // 반응 카운터 (PostRepository 의 원자적 UPDATE 로만 증감, 엔티티 flush 가 덮어쓰지 않도록 updatable=false)
+    @ColumnDefault("0") @Column(nullable=false, updatable=false)
+    private long likeCount = 0;
+
+    @ColumnDefault("0") @Column(nullable=false, updatable=false)
+    private long commentCount = 0; // 삭제되지 않은 댓글 + 대댓글
+
+    @ColumnDefault("0") @Column(nullable=false, updatable=false)
+    private long scrapCount = 0;
+
     // 최대 5장, 정렬 보장
     @OneToMany(mappedBy="post", cascade=CascadeType.ALL, orphanRemoval=true)
     @OrderBy("ordering ASC")
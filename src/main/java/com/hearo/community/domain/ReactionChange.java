@@ -0,0 +1,27 @@
+package com.hearo.community.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마지막 게시물 좋아요/스크랩 변경 시각
+ * - 토글 트랜잭션 안에서 upsert, 다른 인스턴스가 changed_at 으로 폴링해 반응 플래그 캐시를 비운다
+ */
+@Getter
+@Entity
+@Table(name = "reaction_changes", indexes = {
+        @Index(name = "idx_reaction_change_at", columnList = "changed_at")
+})
+public class ReactionChange {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "changed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime changedAt;
+
+    protected ReactionChange() {}
+}
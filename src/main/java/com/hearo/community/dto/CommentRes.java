@@ -12,7 +12,8 @@ public record CommentRes(
         boolean deleted,
         Long parentId,
         LocalDateTime createdAt,
-        LocalDateTime modifiedAt
+        LocalDateTime modifiedAt,
+        long likeCount
 ) {
     public static CommentRes of(Comment c){
         return new CommentRes(
@@ -23,7 +24,8 @@ public record CommentRes(
                 c.isDeleted(),
                 c.getParent() == null ? null : c.getParent().getId(),
                 c.getCreatedAt(),
-                c.getModifiedAt()
+                c.getModifiedAt(),
+                c.getLikeCount()
         );
     }
 }
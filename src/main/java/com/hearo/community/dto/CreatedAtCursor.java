@@ -0,0 +1,27 @@
+package com.hearo.community.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * (createdAt, id) keyset 커서 — 문자열 형식 "2025-01-01T12:34:56.789,123"
+ * - 같은 시각에 여러 건이 있어도 id 로 이어 갈 수 있도록 둘 다 담는다
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, Long id) {
+
+    /** null/빈 문자열이면 첫 페이지(null) */
+    public static CreatedAtCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        int comma = cursor.lastIndexOf(',');
+        try {
+            return new CreatedAtCursor(
+                    LocalDateTime.parse(cursor.substring(0, comma).trim()),
+                    Long.parseLong(cursor.substring(comma + 1).trim()));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    public String encode() {
+        return createdAt + "," + id;
+    }
+}
@@ -21,6 +21,7 @@ public record PostDetailRes(
         LocalDateTime createdAt,
         LocalDateTime modifiedAt,
         long likeCount,
+        long commentCount,
         boolean liked,
         boolean scrapped
 ) {
@@ -45,6 +46,7 @@ public record PostDetailRes(
                 p.getCreatedAt(),
                 p.getModifiedAt(),
                 likeCount,
+                p.getCommentCount(),
                 liked,
                 scrapped
         );
@@ -21,9 +21,21 @@ public record PostRes(
         LocalDateTime createdAt,
         LocalDateTime modifiedAt,
         long likeCount,
+        long commentCount,
         boolean liked,
         boolean scrapped
 ) {
+    /** 공유 캐시 결과에 사용자별 플래그 덧씌우기 */
+    public PostRes withFlags(boolean liked, boolean scrapped) {
+        return new PostRes(id, authorId, authorNickname, title, content, category, visibility, images, tags,
+                createdAt, modifiedAt, likeCount, commentCount, liked, scrapped);
+    }
+
+    public PostRes withCounts(long likeCount, long commentCount) {
+        return new PostRes(id, authorId, authorNickname, title, content, category, visibility, images, tags,
+                createdAt, modifiedAt, likeCount, commentCount, liked, scrapped);
+    }
+
     public static PostRes of(Post p){
         List<String> imgs = p.getImages().stream()
                 .map(i -> i.getUrl())
@@ -43,7 +55,8 @@ public record PostRes(
                 tagsCopy,
                 p.getCreatedAt(),
                 p.getModifiedAt(),
-                0L,
+                p.getLikeCount(),
+                p.getCommentCount(),
                 false,
                 false
         );
@@ -69,6 +82,7 @@ public record PostRes(
                 p.getCreatedAt(),
                 p.getModifiedAt(),
                 likeCount,
+                p.getCommentCount(),
                 liked,
                 scrapped
         );
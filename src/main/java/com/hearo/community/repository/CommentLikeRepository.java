@@ -2,12 +2,30 @@ package com.hearo.community.repository;
 
 import com.hearo.community.domain.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     boolean existsByUser_IdAndComment_Id(Long userId, Long commentId);
     Optional<CommentLike> findByUser_IdAndComment_Id(Long userId, Long commentId);
-    long countByComment_Id(Long commentId);
-    void deleteByUser_IdAndComment_Id(Long userId, Long commentId);
+
+    // 삭제되지 않은 댓글 + 존재하는 사용자일 때만 삽입, 이미 있으면 0 (uq_comment_like_user_comment)
+    @Modifying
+    @Query(value = """
+      INSERT IGNORE INTO comment_likes (user_id, comment_id, created_at, modified_at)
+      SELECT u.id, c.id, NOW(), NOW()
+      FROM comments c JOIN users u ON u.id = :uid
+      WHERE c.id = :cid AND c.deleted = false
+    """, nativeQuery = true)
+    int insertIgnore(@Param("uid") Long userId, @Param("cid") Long commentId);
+
+    @Modifying
+    @Query(value = """
+      DELETE l FROM comment_likes l JOIN comments c ON c.id = l.comment_id
+      WHERE l.user_id = :uid AND l.comment_id = :cid AND c.deleted = false
+    """, nativeQuery = true)
+    int deleteActive(@Param("uid") Long userId, @Param("cid") Long commentId);
 }
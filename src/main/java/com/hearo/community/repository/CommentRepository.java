@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -17,6 +19,27 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @EntityGraph(attributePaths = {"author"})
     Page<Comment> findByParentAndDeletedFalse(Comment parent, Pageable pageable);
 
+    // ===== 댓글 커서 (idx_comment_post_created — InnoDB 보조 인덱스 끝에 PK 가 붙어 (post_id, created_at, id) 순서) =====
+    @EntityGraph(attributePaths = {"author"})
+    @Query("""
+           select c from Comment c
+           where c.post.id = :pid and c.parent is null and c.deleted = false
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findRootComments(@Param("pid") Long postId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author"})
+    @Query("""
+           select c from Comment c
+           where c.post.id = :pid and c.parent is null and c.deleted = false
+             and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+           order by c.createdAt asc, c.id asc
+           """)
+    List<Comment> findRootCommentsAfter(@Param("pid") Long postId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     /** 댓글 단건(게시물/댓글이 모두 활성) */
     @Query("""
            select c
@@ -29,6 +52,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            """)
     Optional<Comment> findActiveById(@Param("cid") Long commentId);
 
+    /** 활성 댓글 하나만 soft delete (이미 지워졌으면 0 → 동시 삭제 중복 차감 방지) */
+    @Modifying
+    @Query("update Comment c set c.deleted = true where c.id = :id and c.deleted = false")
+    int softDeleteIfActive(@Param("id") Long commentId);
+
     /** 게시물 삭제 시 모든 댓글/대댓글 soft delete */
     @Modifying
     @Query("update Comment c set c.deleted = true where c.post.id = :pid and c.deleted = false")
@@ -42,4 +70,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /** 특정 사용자가 작성한 댓글 목록 (최신 순) */
     @EntityGraph(attributePaths = {"author"})
     Page<Comment> findByAuthor_IdAndDeletedFalse(Long authorId, Pageable pageable);
+
+    /** 활성 댓글 행 배타 잠금 (좋아요 insert/delete 전에, PostRepository.lockActive 와 같은 이유) */
+    @Query(value = "SELECT id FROM comments WHERE id = :id AND deleted = false FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockActive(@Param("id") Long commentId);
+
+    // ===== 좋아요 카운터 (comment_likes insert/delete 와 같은 트랜잭션, 음수 방지) =====
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addLikeCount(@Param("id") Long commentId, @Param("delta") long delta);
+
+    @Query("select c.likeCount from Comment c where c.id = :id")
+    long findLikeCount(@Param("id") Long commentId);
 }
@@ -0,0 +1,54 @@
+package com.hearo.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** 게시물/댓글 반응 카운터 재계산 (드리프트 보정용, 값이 다른 행만 UPDATE) */
+@Repository
+@RequiredArgsConstructor
+public class CommunityCounterBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public int recountPostLikes() {
+        return jdbc.update("""
+            UPDATE posts p
+            LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_likes GROUP BY post_id) l
+              ON l.post_id = p.id
+            SET p.like_count = COALESCE(l.cnt, 0)
+            WHERE p.like_count <> COALESCE(l.cnt, 0)
+            """);
+    }
+
+    /** 삭제되지 않은 댓글 + 대댓글 수 */
+    public int recountPostComments() {
+        return jdbc.update("""
+            UPDATE posts p
+            LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM comments WHERE deleted = false GROUP BY post_id) c
+              ON c.post_id = p.id
+            SET p.comment_count = COALESCE(c.cnt, 0)
+            WHERE p.comment_count <> COALESCE(c.cnt, 0)
+            """);
+    }
+
+    public int recountPostScraps() {
+        return jdbc.update("""
+            UPDATE posts p
+            LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_scraps GROUP BY post_id) s
+              ON s.post_id = p.id
+            SET p.scrap_count = COALESCE(s.cnt, 0)
+            WHERE p.scrap_count <> COALESCE(s.cnt, 0)
+            """);
+    }
+
+    public int recountCommentLikes() {
+        return jdbc.update("""
+            UPDATE comments c
+            LEFT JOIN (SELECT comment_id, COUNT(*) AS cnt FROM comment_likes GROUP BY comment_id) l
+              ON l.comment_id = c.id
+            SET c.like_count = COALESCE(l.cnt, 0)
+            WHERE c.like_count <> COALESCE(l.cnt, 0)
+            """);
+    }
+}
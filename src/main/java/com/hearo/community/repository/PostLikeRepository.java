@@ -1,7 +1,9 @@
 package com.hearo.community.repository;
 
 import com.hearo.community.domain.PostLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,14 +13,30 @@ import java.util.Optional;
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByUser_IdAndPost_Id(Long userId, Long postId);
     Optional<PostLike> findByUser_IdAndPost_Id(Long userId, Long postId);
-    long countByPost_Id(Long postId);
-    void deleteByUser_IdAndPost_Id(Long userId, Long postId);
 
-    // [배치] 여러 게시물의 좋아요 수
-    @Query("select pl.post.id, count(pl) from PostLike pl where pl.post.id in :ids group by pl.post.id")
-    List<Object[]> countByPostIds(@Param("ids") List<Long> postIds);
+    // 활성 게시물 + 존재하는 사용자일 때만 삽입, 이미 있으면 0 (uq_post_like_user_post) — 엔티티 조회 없이 한 문장
+    @Modifying
+    @Query(value = """
+      INSERT IGNORE INTO post_likes (user_id, post_id, created_at, modified_at)
+      SELECT u.id, p.id, NOW(), NOW()
+      FROM posts p JOIN users u ON u.id = :uid
+      WHERE p.id = :pid AND p.deleted = false
+    """, nativeQuery = true)
+    int insertIgnore(@Param("uid") Long userId, @Param("pid") Long postId);
+
+    // 활성 게시물의 좋아요만 삭제, 삭제된 행 수 (카운터 증감 판단용)
+    @Modifying
+    @Query(value = """
+      DELETE l FROM post_likes l JOIN posts p ON p.id = l.post_id
+      WHERE l.user_id = :uid AND l.post_id = :pid AND p.deleted = false
+    """, nativeQuery = true)
+    int deleteActive(@Param("uid") Long userId, @Param("pid") Long postId);
 
     // [배치] 특정 사용자가 좋아요한 게시물 ID 집합
     @Query("select pl.post.id from PostLike pl where pl.user.id = :uid and pl.post.id in :ids")
     List<Long> findLikedPostIds(@Param("uid") Long userId, @Param("ids") List<Long> postIds);
+
+    // 특정 사용자가 좋아요한 게시물 ID, 최근 게시물(id 큰 순)부터 limit 개 (PostReactionFlagCache 적재용)
+    @Query("select pl.post.id from PostLike pl where pl.user.id = :uid order by pl.post.id desc")
+    List<Long> findRecentPostIdsByUserId(@Param("uid") Long userId, Pageable pageable);
 }
@@ -7,9 +7,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
@@ -32,8 +35,51 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     @EntityGraph(attributePaths = {"images"})
     Page<Post> findByAuthor_IdAndDeletedFalse(Long authorId, Pageable pageable);
 
+    // ===== 커서 피드 (idx_post_deleted_created): id 만 LIMIT 으로 뽑고, 엔티티는 findWithImagesByIdIn 으로 =====
+    // 컬렉션 fetch join + 페이징은 메모리 페이징이 되므로 두 단계로 나눔
+    @Query("""
+            select p.id from Post p
+            where p.deleted = false
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Long> findFeedIds(Pageable pageable);
+
+    @Query("""
+            select p.id from Post p
+            where p.deleted = false
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Long> findFeedIdsBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내가 쓴 글 피드 (idx_post_author_deleted_created)
+    @Query("""
+            select p.id from Post p
+            where p.author.id = :uid and p.deleted = false
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Long> findAuthorFeedIds(@Param("uid") Long authorId, Pageable pageable);
+
+    @Query("""
+            select p.id from Post p
+            where p.author.id = :uid and p.deleted = false
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Long> findAuthorFeedIdsBefore(@Param("uid") Long authorId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /** id 목록의 게시물 + 이미지 (순서는 호출부에서 맞춤) */
+    @EntityGraph(attributePaths = {"images"})
+    @Query("select distinct p from Post p where p.id in :ids")
+    List<Post> findWithImagesByIdIn(@Param("ids") List<Long> ids);
+
     boolean existsByIdAndAuthor_Id(Long postId, Long authorId);
 
+    boolean existsByIdAndDeletedFalse(Long id);
+
     long countByCategoryAndDeletedFalse(PostCategory category);
 
     // 내 스크랩 목록 (스크랩한 시각 최신순)
@@ -69,4 +115,29 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
             where l.user.id = :uid and p.deleted = false
             """)
     Page<Post> findLikedPosts(@Param("uid") Long userId, Pageable pageable);
+
+    /**
+     * 활성 게시물 행 배타 잠금 (반응/댓글 insert·delete 전에 먼저 호출)
+     * - 자식 insert 의 FK 검사가 부모 행에 공유 잠금 → 뒤의 카운터 UPDATE 가 배타 잠금으로 올리려다 서로 대기(교착)
+     * - 처음부터 배타 잠금을 잡으면 같은 게시물 요청은 줄을 선다
+     */
+    @Query(value = "SELECT id FROM posts WHERE id = :id AND deleted = false FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockActive(@Param("id") Long postId);
+
+    // ===== 반응 카운터: 반응 insert/delete 와 같은 트랜잭션에서 원자적으로 증감 (음수 방지) =====
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addLikeCount(@Param("id") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addCommentCount(@Param("id") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET scrap_count = GREATEST(scrap_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addScrapCount(@Param("id") Long postId, @Param("delta") long delta);
+
+    // 영속성 컨텍스트의 엔티티 값이 아니라 DB 값을 읽도록 스칼라 조회
+    @Query("select p.likeCount from Post p where p.id = :id")
+    long findLikeCount(@Param("id") Long postId);
 }
@@ -1,7 +1,9 @@
 package com.hearo.community.repository;
 
 import com.hearo.community.domain.PostScrap;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,9 +13,29 @@ import java.util.Optional;
 public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     boolean existsByUser_IdAndPost_Id(Long userId, Long postId);
     Optional<PostScrap> findByUser_IdAndPost_Id(Long userId, Long postId);
-    void deleteByUser_IdAndPost_Id(Long userId, Long postId);
+
+    // 활성 게시물 + 존재하는 사용자일 때만 삽입, 이미 있으면 0 (uq_post_scrap_user_post)
+    @Modifying
+    @Query(value = """
+      INSERT IGNORE INTO post_scraps (user_id, post_id, created_at, modified_at)
+      SELECT u.id, p.id, NOW(), NOW()
+      FROM posts p JOIN users u ON u.id = :uid
+      WHERE p.id = :pid AND p.deleted = false
+    """, nativeQuery = true)
+    int insertIgnore(@Param("uid") Long userId, @Param("pid") Long postId);
+
+    @Modifying
+    @Query(value = """
+      DELETE s FROM post_scraps s JOIN posts p ON p.id = s.post_id
+      WHERE s.user_id = :uid AND s.post_id = :pid AND p.deleted = false
+    """, nativeQuery = true)
+    int deleteActive(@Param("uid") Long userId, @Param("pid") Long postId);
 
     // [배치] 특정 사용자가 스크랩한 게시물 ID 집합
     @Query("select ps.post.id from PostScrap ps where ps.user.id = :uid and ps.post.id in :ids")
     List<Long> findScrappedPostIds(@Param("uid") Long userId, @Param("ids") List<Long> postIds);
+
+    // 특정 사용자가 스크랩한 게시물 ID, 최근 게시물(id 큰 순)부터 limit 개 (PostReactionFlagCache 적재용)
+    @Query("select ps.post.id from PostScrap ps where ps.user.id = :uid order by ps.post.id desc")
+    List<Long> findRecentPostIdsByUserId(@Param("uid") Long userId, Pageable pageable);
 }
@@ -0,0 +1,69 @@
+package com.hearo.community.repository;
+
+import com.hearo.community.domain.PostCategory;
+import com.hearo.community.search.PostSearchDoc;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 게시물 검색 색인 적재용
+ * - 전체 재색인: 삭제되지 않은 게시물을 id 순으로 끊어 읽기
+ * - 증분 따라잡기: modified_at 이 기준 시각 이후인 행 (다른 인스턴스에서 생긴 변경)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public List<PostSearchDoc> loadActiveAfter(long afterId, int limit) {
+        return load("deleted = false AND id > ?", afterId, limit);
+    }
+
+    /** since 이후 수정된 활성 게시물 (idx_post_modified 범위, id 순으로 끊어 읽기) */
+    public List<PostSearchDoc> loadActiveModifiedSince(LocalDateTime since, long afterId, int limit) {
+        return load("deleted = false AND modified_at >= ? AND id > ?", Timestamp.valueOf(since), afterId, limit);
+    }
+
+    /** since 이후 삭제 처리된 게시물 id */
+    public List<Long> loadDeletedIdsSince(LocalDateTime since) {
+        return jdbc.queryForList("SELECT id FROM posts WHERE deleted = true AND modified_at >= ?",
+                Long.class, Timestamp.valueOf(since));
+    }
+
+    /** args: where 의 파라미터들 + 마지막에 limit */
+    private List<PostSearchDoc> load(String where, Object... args) {
+        record Row(long id, String title, String content, PostCategory category) {}
+        List<Row> rows = jdbc.query("""
+            SELECT id, title, content, category
+            FROM posts
+            WHERE %s
+            ORDER BY id
+            LIMIT ?
+            """.formatted(where),
+                (rs, i) -> new Row(rs.getLong("id"), rs.getString("title"), rs.getString("content"),
+                        PostCategory.valueOf(rs.getString("category"))),
+                args);
+        if (rows.isEmpty()) return List.of();
+
+        Map<Long, Set<String>> tags = new HashMap<>();
+        String in = String.join(",", Collections.nCopies(rows.size(), "?"));
+        jdbc.query("SELECT post_id, tag FROM post_tags WHERE post_id IN (" + in + ")",
+                rs -> {
+                    tags.computeIfAbsent(rs.getLong("post_id"), k -> new HashSet<>()).add(rs.getString("tag"));
+                },
+                rows.stream().map(Row::id).toArray());
+
+        List<PostSearchDoc> out = new ArrayList<>(rows.size());
+        for (Row r : rows) {
+            out.add(new PostSearchDoc(r.id(), r.title(), r.content(), r.category(),
+                    Set.copyOf(tags.getOrDefault(r.id(), Set.of()))));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hearo.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 반응 플래그 캐시 인스턴스 간 무효화용 변경 시각 (reaction_changes)
+ * - 시각은 모두 DB 시계(NOW(6)) 기준 → 인스턴스 간 시계 차이와 무관
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionChangeBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public void touch(long userId) {
+        jdbc.update("""
+            INSERT INTO reaction_changes (user_id, changed_at) VALUES (?, NOW(6))
+            ON DUPLICATE KEY UPDATE changed_at = NOW(6)
+            """, userId);
+    }
+
+    public LocalDateTime now() {
+        return jdbc.queryForObject("SELECT NOW(6)", Timestamp.class).toLocalDateTime();
+    }
+
+    /** since 이후 바뀐 사용자: userId -> changed_at (idx_reaction_change_at 범위) */
+    public Map<Long, LocalDateTime> loadChangedSince(LocalDateTime since) {
+        Map<Long, LocalDateTime> map = new HashMap<>();
+        jdbc.query("SELECT user_id, changed_at FROM reaction_changes WHERE changed_at >= ?",
+                rs -> { map.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()); },
+                Timestamp.valueOf(since));
+        return map;
+    }
+}
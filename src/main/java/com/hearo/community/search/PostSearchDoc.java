@@ -0,0 +1,19 @@
+package com.hearo.community.search;
+
+import com.hearo.community.domain.Post;
+import com.hearo.community.domain.PostCategory;
+
+import java.util.Set;
+
+/** 색인 입력 한 건 (태그는 Post 와 같은 소문자 정규화 값) */
+public record PostSearchDoc(
+        long id,
+        String title,
+        String content,
+        PostCategory category,
+        Set<String> tags
+) {
+    public static PostSearchDoc from(Post p) {
+        return new PostSearchDoc(p.getId(), p.getTitle(), p.getContent(), p.getCategory(), Set.copyOf(p.getTags()));
+    }
+}
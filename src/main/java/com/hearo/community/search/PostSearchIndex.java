@@ -0,0 +1,335 @@
+package com.hearo.community.search;
+
+import com.hearo.community.domain.PostCategory;
+import com.hearo.community.repository.PostSearchBulkRepository;
+import com.hearo.global.tx.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시물 제목/본문 역색인 + BM25 순위 (LIKE '%q%' 로 본문 LOB 전체를 읽지 않도록)
+ * - 작성/수정/삭제는 커밋 후 해당 게시물만 반영, 기동 시(그리고 야간에) DB 에서 다시 만듦
+ * - 인스턴스별 색인이라 다른 인스턴스의 변경은 modified_at 기준 주기 폴링(catchUp)으로 따라잡는다
+ *   (태그만 바꾼 수정처럼 modified_at 이 안 바뀌는 변경은 야간 재색인에서 맞춰짐)
+ * - 다시 만드는 동안 들어온 변경은 모아 두었다가 새 인덱스로 교체할 때 다시 적용
+ * - 질의 단어마다 단어 토큰 또는 bigram 전부를 가진 게시물만 후보 (1글자 질의는 unigram), 분류/태그 필터는 후보에 바로 적용
+ *   bigram 으로만 걸린 후보는 정규화한 제목/본문에 단어가 실제로 들어 있는지 최종 확인 ("abca" 가 "abc bca" 에 걸리지 않게)
+ * - 제목 토큰은 TITLE_WEIGHT 배로 tf 에 더한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2, B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOAD_CHUNK = 1000;
+
+    private final PostSearchBulkRepository bulkRepo;
+
+    // 커밋이 modified_at 보다 늦게 보이거나 인스턴스 간 시계가 어긋나도 놓치지 않도록 겹쳐 읽는 구간
+    @Value("${community.search.catch-up-overlap-seconds:60}")
+    private long catchUpOverlapSeconds;
+
+    // 이 시각 이후 수정분은 아직 따라잡지 않음 (재색인 시작 시각부터), catchUp/rebuild 안에서만 갱신
+    private LocalDateTime caughtUpTo;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Inverted index = new Inverted();
+    private volatile boolean ready;
+
+    // 재색인 중 들어온 변경 (null 이면 재색인 중 아님), lock 의 쓰기 락 안에서만 접근
+    private List<Consumer<Inverted>> pendingDuringRebuild;
+
+    /** 검색 결과: BM25 점수 내림차순 → id 내림차순 */
+    public record Result(int total, List<Long> ids) {}
+
+    /** 기동 직후 적재가 끝나기 전에는 false (호출 측이 DB 검색으로 대체) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /* ================= 변경 반영 ================= */
+
+    public void onUpsert(PostSearchDoc doc) {
+        AfterCommit.run(() -> apply(ix -> ix.upsert(doc)));
+    }
+
+    public void onDelete(Long postId) {
+        AfterCommit.run(() -> apply(ix -> ix.remove(postId)));
+    }
+
+    /** 조회하다 DB 에서 이미 삭제(커밋)된 것으로 확인한 게시물 즉시 제거 (catchUp 을 기다리지 않음) */
+    public void evict(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(postIds);
+        apply(ix -> ids.forEach(ix::remove));
+    }
+
+    private void apply(Consumer<Inverted> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(index);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ================= 검색 ================= */
+
+    /** offset/limit 구간 id 와 전체 일치 건수 */
+    public Result search(String q, PostCategory category, String tag, int offset, int limit) {
+        List<String> words = distinctWords(q);
+        if (words.isEmpty()) return new Result(0, List.of());
+        String normalizedTag = normalizeTag(tag);
+
+        lock.readLock().lock();
+        try {
+            Inverted ix = index;
+            long[] candidates = ix.candidates(words, category, normalizedTag);
+            Set<String> terms = queryTerms(words);
+            int n = candidates.length;
+            double[] scores = new double[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                scores[i] = ix.score(candidates[i], terms);
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int c = Double.compare(scores[b], scores[a]);
+                return (c != 0) ? c : Long.compare(candidates[b], candidates[a]);
+            });
+            int from = Math.min(Math.max(offset, 0), n);
+            int to = Math.min(from + Math.max(limit, 0), n);
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) ids.add(candidates[order[i]]);
+            return new Result(n, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 최신순(id 내림차순) 커서 검색: beforeId 보다 작은 일치 id 를 limit 개 */
+    public List<Long> matchesBefore(String q, PostCategory category, String tag, Long beforeId, int limit) {
+        List<String> words = distinctWords(q);
+        if (words.isEmpty()) return List.of();
+        String normalizedTag = normalizeTag(tag);
+
+        lock.readLock().lock();
+        try {
+            long[] candidates = index.candidates(words, category, normalizedTag);
+            List<Long> out = new ArrayList<>(Math.min(limit, candidates.length));
+            for (int i = candidates.length - 1; i >= 0 && out.size() < limit; i--) {
+                if (beforeId == null || candidates[i] < beforeId) out.add(candidates[i]);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ================= 재색인 ================= */
+
+    @Scheduled(cron = "${community.search.rebuild-cron:0 50 4 * * *}", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Inverted next = new Inverted();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<PostSearchDoc> page = bulkRepo.loadActiveAfter(afterId, LOAD_CHUNK);
+                page.forEach(next::upsert);
+                if (page.size() < LOAD_CHUNK) break;
+                afterId = page.get(page.size() - 1).id();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(op -> op.accept(next));
+            pendingDuringRebuild = null;
+            index = next;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpTo = startedAt;
+        log.info("[PostSearchIndex] rebuilt. docs={} terms={}", next.docs.size(), next.postings.size());
+    }
+
+    /** 마지막 따라잡기(또는 재색인) 이후 DB 에서 수정/삭제된 게시물 반영 (반영은 멱등이라 겹쳐 읽어도 됨) */
+    @Scheduled(fixedDelayString = "${community.search.catch-up-ms:30000}",
+            initialDelayString = "${community.search.catch-up-ms:30000}")
+    public synchronized void catchUp() {
+        if (!ready || caughtUpTo == null) return;
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = caughtUpTo.minusSeconds(catchUpOverlapSeconds);
+
+        int upserted = 0;
+        long afterId = 0;
+        while (true) {
+            List<PostSearchDoc> page = bulkRepo.loadActiveModifiedSince(since, afterId, LOAD_CHUNK);
+            apply(ix -> page.forEach(ix::upsert));
+            upserted += page.size();
+            if (page.size() < LOAD_CHUNK) break;
+            afterId = page.get(page.size() - 1).id();
+        }
+        List<Long> deleted = bulkRepo.loadDeletedIdsSince(since);
+        if (!deleted.isEmpty()) apply(ix -> deleted.forEach(ix::remove));
+
+        caughtUpTo = startedAt;
+        if (upserted > 0 || !deleted.isEmpty())
+            log.debug("[PostSearchIndex] caught up. upserted={} deleted={}", upserted, deleted.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[PostSearchIndex] initial load failed, search falls back to DB: {}", e.toString());
+        }
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    private static List<String> distinctWords(String q) {
+        return List.copyOf(new LinkedHashSet<>(PostTokenizer.words(q)));
+    }
+
+    private static Set<String> queryTerms(List<String> words) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String w : words) {
+            terms.add(w);
+            terms.addAll(PostTokenizer.bigrams(w));
+        }
+        return terms;
+    }
+
+    private static String normalizeTag(String tag) {
+        return (tag == null || tag.isBlank()) ? null : tag.trim().toLowerCase();
+    }
+
+    // text: 정규화한 "제목\n본문" (bigram 후보 최종 확인용)
+    private record Doc(PostCategory category, Set<String> tags, int length, String text) {}
+
+    /** 역색인 본체 (잠금은 바깥에서) */
+    private static final class Inverted {
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final Map<Long, Map<String, Integer>> termsByDoc = new HashMap<>(); // 삭제/수정 시 posting 정리용
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();    // 토큰 → (게시물 → tf)
+        private long totalLength;
+
+        void upsert(PostSearchDoc d) {
+            remove(d.id());
+            Map<String, Integer> tf = new HashMap<>();
+            int length = 0;
+            for (String t : PostTokenizer.tokens(d.title())) {
+                tf.merge(t, TITLE_WEIGHT, Integer::sum);
+                length += TITLE_WEIGHT;
+            }
+            for (String t : PostTokenizer.tokens(d.content())) {
+                tf.merge(t, 1, Integer::sum);
+                length++;
+            }
+            tf.forEach((t, f) -> postings.computeIfAbsent(t, k -> new HashMap<>()).put(d.id(), f));
+            termsByDoc.put(d.id(), tf);
+            String text = PostTokenizer.normalize(d.title()) + "\n" + PostTokenizer.normalize(d.content());
+            docs.put(d.id(), new Doc(d.category(), d.tags() == null ? Set.of() : d.tags(), length, text));
+            totalLength += length;
+        }
+
+        void remove(long id) {
+            Doc prev = docs.remove(id);
+            if (prev == null) return;
+            totalLength -= prev.length();
+            for (String t : termsByDoc.remove(id).keySet()) {
+                Map<Long, Integer> p = postings.get(t);
+                p.remove(id);
+                if (p.isEmpty()) postings.remove(t);
+            }
+        }
+
+        /** 모든 질의 단어에 일치 + 필터 통과 (id 오름차순) */
+        long[] candidates(List<String> words, PostCategory category, String tag) {
+            Set<Long> acc = null;
+            for (String w : words) {
+                Set<Long> matched = matches(w);
+                if (acc == null) acc = new HashSet<>(matched);
+                else acc.retainAll(matched);
+                if (acc.isEmpty()) return new long[0];
+            }
+            return acc.stream()
+                    .filter(id -> {
+                        Doc d = docs.get(id);
+                        return (category == null || d.category() == category) && (tag == null || d.tags().contains(tag));
+                    })
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+        }
+
+        /** 단어 토큰(1글자면 unigram)을 가졌거나 (3글자 이상이면) 그 bigram 을 전부 가지고 본문/제목에 단어가 들어 있는 게시물 */
+        private Set<Long> matches(String word) {
+            Set<Long> out = new HashSet<>(postings.getOrDefault(word, Map.of()).keySet());
+            Set<String> grams = PostTokenizer.bigrams(word);
+            if (grams.isEmpty()) return out;
+
+            List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+            for (String g : grams) {
+                Map<Long, Integer> p = postings.get(g);
+                if (p == null) return out;
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(Map::size)); // 짧은 posting 부터 좁힘
+            Set<Long> byGrams = new HashSet<>(lists.get(0).keySet());
+            for (int i = 1; i < lists.size() && !byGrams.isEmpty(); i++) byGrams.retainAll(lists.get(i).keySet());
+            // bigram 을 다 가져도 순서가 다를 수 있으므로 부분 문자열로 최종 확인
+            for (Long id : byGrams) {
+                if (!out.contains(id) && docs.get(id).text().contains(word)) out.add(id);
+            }
+            return out;
+        }
+
+        double score(long id, Set<String> terms) {
+            int n = docs.size();
+            double avgLength = (n == 0) ? 1 : Math.max((double) totalLength / n, 1);
+            double norm = K1 * (1 - B + B * docs.get(id).length() / avgLength);
+            double score = 0;
+            for (String t : terms) {
+                Map<Long, Integer> p = postings.get(t);
+                Integer f = (p == null) ? null : p.get(id);
+                if (f == null) continue;
+                double idf = Math.log(1 + (n - p.size() + 0.5) / (p.size() + 0.5));
+                score += idf * f * (K1 + 1) / (f + norm);
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hearo.community.search;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 게시물 검색 토큰화 (색인/질의 같은 규칙)
+ * - NFC + 소문자, 글자/숫자가 아닌 문자로 단어 분리
+ * - 단어 토큰 + 2글자 이상 단어의 unigram + 3글자 이상 단어의 bigram
+ *   ("사랑해요" → 사랑해요, 사, 랑, 해, 요, 사랑, 랑해, 해요)
+ * - 조사가 붙은 단어("사랑을")도 질의 "사랑" 이 bigram 으로, 한 글자 질의 "랑" 은 unigram 으로 걸린다
+ */
+final class PostTokenizer {
+
+    private PostTokenizer() {}
+
+    /** NFC + 소문자 (단어는 이 문자열의 부분 문자열) */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> words(String text) {
+        if (text == null || text.isEmpty()) return List.of();
+        String nfc = normalize(text);
+        List<String> out = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= nfc.length(); i++) {
+            boolean wordChar = i < nfc.length() && Character.isLetterOrDigit(nfc.charAt(i));
+            if (wordChar && start < 0) start = i;
+            else if (!wordChar && start >= 0) {
+                out.add(nfc.substring(start, i));
+                start = -1;
+            }
+        }
+        return out;
+    }
+
+    /** 단어 하나의 색인 토큰 (중복 포함, tf 계산용) */
+    static void tokens(String word, List<String> out) {
+        out.add(word);
+        if (word.length() < 2) return;
+        for (int i = 0; i < word.length(); i++) out.add(word.substring(i, i + 1));
+        if (word.length() < 3) return;
+        for (int i = 0; i + 2 <= word.length(); i++) out.add(word.substring(i, i + 2));
+    }
+
+    static List<String> tokens(String text) {
+        List<String> out = new ArrayList<>();
+        for (String w : words(text)) tokens(w, out);
+        return out;
+    }
+
+    /** 질의 단어가 bigram 으로 맞춰 볼 토큰 (2글자 이하는 단어 자체만, 1글자는 색인의 unigram 과 같은 토큰) */
+    static Set<String> bigrams(String word) {
+        if (word.length() < 3) return Set.of();
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= word.length(); i++) out.add(word.substring(i, i + 2));
+        return out;
+    }
+}
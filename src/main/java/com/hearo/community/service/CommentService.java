@@ -5,8 +5,10 @@ import com.hearo.community.domain.Post;
 import com.hearo.community.dto.CommentCreateReq;
 import com.hearo.community.dto.CommentEditReq;
 import com.hearo.community.dto.CommentRes;
+import com.hearo.community.dto.CreatedAtCursor;
 import com.hearo.community.repository.CommentRepository;
 import com.hearo.community.repository.PostRepository;
+import com.hearo.global.dto.CursorSlice;
 import com.hearo.user.domain.User;
 import com.hearo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -25,6 +29,9 @@ public class CommentService {
     private final CommentRepository comments;
     private final PostRepository posts;
     private final UserRepository users;
+    private final PostFeedCache feedCache;
+
+    private static final int MAX_FEED_SIZE = 100;
 
     @Transactional(readOnly = true)
     public Page<CommentRes> listComments(Long postId, int page, int size) {
@@ -34,6 +41,21 @@ public class CommentService {
         return comments.findByPostAndParentIsNullAndDeletedFalse(post, pageable).map(CommentRes::of);
     }
 
+    /** 댓글 커서 목록 (작성순, idx_comment_post_created 범위 탐색 — COUNT 없음) */
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentRes> listCommentsAfter(Long postId, String cursor, int size) {
+        if (!posts.existsByIdAndDeletedFalse(postId))
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        CreatedAtCursor c = CreatedAtCursor.parse(cursor);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Comment> fetched = (c == null)
+                ? comments.findRootComments(postId, pageable)
+                : comments.findRootCommentsAfter(postId, c.createdAt(), c.id(), pageable);
+        return CursorSlice.of(fetched, limit, x -> new CreatedAtCursor(x.getCreatedAt(), x.getId()).encode())
+                .map(CommentRes::of);
+    }
+
     @Transactional(readOnly = true)
     public Page<CommentRes> listReplies(Long parentCommentId, int page, int size) {
         Comment parent = comments.findById(parentCommentId)
@@ -50,26 +72,34 @@ public class CommentService {
                 .map(CommentRes::of);
     }
 
+    /*
+     * 댓글 작성/삭제는 게시물 행 배타 잠금부터 (PostRepository.lockActive)
+     * - 댓글 INSERT 의 FK 검사가 게시물에 공유 잠금 → 뒤의 comment_count UPDATE 와 동시 요청끼리 교착
+     * - 작성/삭제 모두 게시물 → 댓글 순서로 잠가 대댓글 작성과 부모 삭제 사이의 교착도 막는다
+     */
+
     public Long write(Long userId, Long postId, CommentCreateReq req) {
-        Post post = posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
+        lockActivePost(postId);
         User author = users.findById(userId).orElseThrow();
-        Comment c = Comment.of(post, author, req.content(), null);
+        Comment c = Comment.of(posts.getReferenceById(postId), author, req.content(), null);
         comments.save(c);
+        posts.addCommentCount(postId, 1);
+        feedCache.onCommentCountChanged(postId, 1);
         return c.getId();
     }
 
     public Long reply(Long userId, Long postId, Long parentCommentId, CommentCreateReq req) {
-        Post post = posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
+        lockActivePost(postId);
         Comment parent = comments.findById(parentCommentId)
                 .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
-        if (!parent.getPost().getId().equals(post.getId()))
+        if (!parent.getPost().getId().equals(postId))
             throw new IllegalArgumentException("부모 댓글과 게시물이 일치하지 않습니다.");
 
         User author = users.findById(userId).orElseThrow();
-        Comment c = Comment.of(post, author, req.content(), parent);
+        Comment c = Comment.of(posts.getReferenceById(postId), author, req.content(), parent);
         comments.save(c);
+        posts.addCommentCount(postId, 1);
+        feedCache.onCommentCountChanged(postId, 1);
         return c.getId();
     }
 
@@ -87,14 +117,23 @@ public class CommentService {
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         if (!c.getAuthor().getId().equals(userId))
             throw new SecurityException("삭제 권한이 없습니다.");
+        Long postId = c.getPost().getId();
+        lockActivePost(postId);
 
-        if (c.isReply()) {
-            // 대댓글이면 자기 자신만 soft delete
-            c.softDelete();
-        } else {
-            // 부모 댓글이면: 자신의 모든 대댓글 soft delete 후, 부모도 soft delete
-            comments.softDeleteAllByParentId(c.getId());
-            c.softDelete();
+        // 위에서 읽은 뒤 다른 요청이 먼저 지웠을 수 있으므로 잠금 후 조건부 UPDATE 로 한 번만 반영
+        if (comments.softDeleteIfActive(c.getId()) == 0)
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+        int removed = 1;
+        if (!c.isReply()) {
+            // 부모 댓글이면 자신의 모든 대댓글도 soft delete
+            removed += comments.softDeleteAllByParentId(c.getId());
         }
+        posts.addCommentCount(postId, -removed);
+        feedCache.onCommentCountChanged(postId, -removed);
+    }
+
+    private void lockActivePost(Long postId) {
+        if (posts.lockActive(postId).isEmpty())
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
     }
 }
@@ -0,0 +1,40 @@
+package com.hearo.community.service;
+
+import com.hearo.community.repository.CommunityCounterBulkRepository;
+import com.hearo.global.lock.DbLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * posts.like_count / comment_count / scrap_count, comments.like_count 재계산
+ * - 평소에는 반응 insert/delete 와 같은 트랜잭션의 원자적 UPDATE 로 유지
+ * - 직접 SQL 수정, 중간 실패 등으로 생긴 오차만 야간에 맞춘다
+ * - 전체 테이블 재계산이라 DB 락으로 한 인스턴스만 실행 (기동 시에는 돌리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityCounterReconciler {
+
+    private final CommunityCounterBulkRepository bulkRepo;
+    private final PostFeedCache feedCache;
+    private final DbLock dbLock;
+
+    private static final String RECONCILE_LOCK = "community-counter-reconcile";
+
+    @Scheduled(cron = "${community.counter.reconcile-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        boolean ran = dbLock.tryRun(RECONCILE_LOCK, () -> {
+            int postLikes = bulkRepo.recountPostLikes();
+            int postComments = bulkRepo.recountPostComments();
+            int postScraps = bulkRepo.recountPostScraps();
+            int commentLikes = bulkRepo.recountCommentLikes();
+            if (postLikes + postComments > 0) feedCache.invalidate();
+            log.info("[CommunityCounter] reconciled. fixed postLikes={} postComments={} postScraps={} commentLikes={}",
+                    postLikes, postComments, postScraps, commentLikes);
+        });
+        if (!ran) log.info("[CommunityCounter] reconcile running on another instance. skip.");
+    }
+}
@@ -5,6 +5,8 @@ import com.hearo.community.domain.PostImage;
 import com.hearo.community.dto.PostCreateReq;
 import com.hearo.community.dto.PostEditReq;
 import com.hearo.community.repository.PostRepository;
+import com.hearo.community.search.PostSearchDoc;
+import com.hearo.community.search.PostSearchIndex;
 import com.hearo.user.domain.User;
 import com.hearo.user.repository.UserRepository;
 import com.hearo.community.repository.CommentRepository;
@@ -25,6 +27,8 @@ public class PostCommandService {
     private final PostRepository posts;
     private final UserRepository users;
     private final CommentRepository comments;
+    private final PostFeedCache feedCache;
+    private final PostSearchIndex searchIndex;
 
     @PersistenceContext
     private EntityManager em;
@@ -48,6 +52,8 @@ public class PostCommandService {
             req.tags().forEach(t -> p.getTags().add(t.trim().toLowerCase()));
         }
 
+        feedCache.invalidate();
+        searchIndex.onUpsert(PostSearchDoc.from(p));
         return p.getId();
     }
 
@@ -79,15 +85,23 @@ public class PostCommandService {
         if (req.tags() != null) {
             req.tags().forEach(t -> p.getTags().add(t.trim().toLowerCase()));
         }
+        feedCache.invalidate();
+        searchIndex.onUpsert(PostSearchDoc.from(p));
     }
 
     public void delete(Long userId, Long postId) {
+        // 댓글 행보다 게시물 행을 먼저 잠금 (댓글 작성/삭제와 같은 순서 → 교착 방지)
+        if (posts.lockActive(postId).isEmpty())
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
         var p = posts.findByIdAndDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
         if (!p.getAuthor().getId().equals(userId))
             throw new SecurityException("삭제 권한이 없습니다.");
 
         p.setDeleted(true);                       // 게시물 soft delete
-        comments.softDeleteAllByPostId(postId);   // 댓글/대댓글 전부 soft delete
+        int removed = comments.softDeleteAllByPostId(postId);   // 댓글/대댓글 전부 soft delete
+        posts.addCommentCount(postId, -removed);
+        feedCache.invalidate();
+        searchIndex.onDelete(postId);
     }
 }
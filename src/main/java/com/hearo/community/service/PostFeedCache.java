@@ -0,0 +1,96 @@
+package com.hearo.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hearo.community.dto.PostRes;
+import com.hearo.global.tx.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 전체 목록 앞쪽 몇 페이지 공유 캐시 (liked/scrapped 는 false 인 비로그인 기준 결과)
+ * - 게시물 작성/수정/삭제: 커밋 후 세대 번호를 올려 통째로 무효화 (로딩 중이던 이전 세대 결과는 아무도 안 읽음)
+ * - 좋아요/댓글 수 변경: 커밋 후 캐시에 있는 해당 게시물만 새 레코드로 교체
+ * - 로딩과 겹친 증감, 닉네임 변경 등은 TTL 이 지나면 맞춰진다
+ * - 무효화/패치는 이 인스턴스 캐시만 건드린다 → 다른 인스턴스에서 생긴 변경은 최대 TTL(ttl-seconds) 늦게 보임
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFeedCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${community.feed-cache.pages:3}")
+    private int pages;
+
+    @Value("${community.feed-cache.max-page-size:50}")
+    private int maxPageSize;
+
+    @Value("${community.feed-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private record PageKey(long generation, int page, int size) {}
+
+    private final AtomicLong generation = new AtomicLong();
+    private Cache<PageKey, Page<PostRes>> cache;
+
+    @PostConstruct
+    void initCache() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(200)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "communityFeed");
+    }
+
+    public boolean covers(int page, int size) {
+        return page >= 0 && page < pages && size > 0 && size <= maxPageSize;
+    }
+
+    /** 같은 키 동시 요청은 한 번만 로딩 */
+    public Page<PostRes> get(int page, int size, Supplier<Page<PostRes>> loader) {
+        return cache.get(new PageKey(generation.get(), page, size), k -> loader.get());
+    }
+
+    /** 목록 구성(순서/개수/본문)이 바뀌는 변경 (로컬 캐시만, 다른 인스턴스는 TTL 로 맞춰짐) */
+    public void invalidate() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        });
+    }
+
+    public void onLikeCountChanged(Long postId, int delta) {
+        patch(postId, r -> r.withCounts(Math.max(r.likeCount() + delta, 0), r.commentCount()));
+    }
+
+    public void onCommentCountChanged(Long postId, int delta) {
+        patch(postId, r -> r.withCounts(r.likeCount(), Math.max(r.commentCount() + delta, 0)));
+    }
+
+    private void patch(Long postId, UnaryOperator<PostRes> fn) {
+        AfterCommit.run(() -> cache.asMap().replaceAll((k, page) -> patched(page, postId, fn)));
+    }
+
+    private static Page<PostRes> patched(Page<PostRes> page, Long postId, UnaryOperator<PostRes> fn) {
+        List<PostRes> content = page.getContent();
+        if (content.stream().noneMatch(r -> r.id().equals(postId))) return page;
+        List<PostRes> next = content.stream()
+                .map(r -> r.id().equals(postId) ? fn.apply(r) : r)
+                .toList();
+        return new PageImpl<>(next, page.getPageable(), page.getTotalElements());
+    }
+}
@@ -2,18 +2,23 @@ package com.hearo.community.service;
 
 import com.hearo.community.domain.Post;
 import com.hearo.community.domain.PostCategory;
+import com.hearo.community.dto.CreatedAtCursor;
 import com.hearo.community.dto.PostDetailRes;
 import com.hearo.community.dto.PostRes;
 import com.hearo.community.repository.PostLikeRepository;
 import com.hearo.community.repository.PostRepository;
 import com.hearo.community.repository.PostScrapRepository;
+import com.hearo.community.search.PostSearchIndex;
+import com.hearo.global.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,12 +26,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostQueryService {
 
+    private static final int MAX_FEED_SIZE = 50;
+    // 검색 페이지에 색인이 아직 모르는 삭제 글이 섞였을 때 색인에서 빼고 다시 조회하는 횟수
+    private static final int MAX_STALE_RETRIES = 2;
+    private static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final PostRepository posts;
     private final PostLikeRepository postLikes;
     private final PostScrapRepository postScraps;
+    private final PostFeedCache feedCache;
+    private final PostReactionFlagCache flagCache;
+    private final PostSearchIndex searchIndex;
 
     /** 전체 목록 */
     public Page<PostRes> list(int page, int size, Long userIdOrNull) {
+        if (feedCache.covers(page, size)) {
+            // 앞쪽 페이지: 공유 캐시(비로그인 기준) + 사용자 플래그 덧씌우기
+            Page<PostRes> shared = feedCache.get(page, size, () -> posts.findAllByDeletedFalse(
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"))).map(PostRes::of));
+            return overlayFlags(shared, userIdOrNull);
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Post> p = posts.findAllByDeletedFalse(pageable);
         return attachReactions(p, userIdOrNull);
@@ -40,10 +59,125 @@ public class PostQueryService {
         return attachReactions(p, userId);
     }
 
-    /** 검색 */
+    /** 검색: 검색어가 있으면 역색인 BM25 순위, 없으면 분류/태그 조건만으로 최신순 */
     public Page<PostRes> search(String q, PostCategory category, String tag, int page, int size, Long userIdOrNull) {
+        if (useIndex(q)) {
+            // 삭제 글은 색인에서 바로 빼고 다시 조회 → 페이지가 채워지고 전체 건수도 그만큼 줄어듦
+            for (int attempt = 0; ; attempt++) {
+                PostSearchIndex.Result r = searchIndex.search(q, category, tag, page * size, size);
+                List<Post> content = dropDeleted(r.ids(), loadInOrder(r.ids()));
+                int stale = r.ids().size() - content.size();
+                if (stale == 0 || attempt == MAX_STALE_RETRIES) {
+                    return attachReactions(new PageImpl<>(content, PageRequest.of(page, size), r.total() - stale), userIdOrNull);
+                }
+            }
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Post> p = posts.findAll(searchSpec(q, category, tag), pageable);
+        return attachReactions(p, userIdOrNull);
+    }
+
+    /* ===== 커서 피드: COUNT 없이 (createdAt, id) 범위 탐색이라 스크롤 깊이와 무관 ===== */
+
+    /** 전체 피드 (idx_post_deleted_created) */
+    public CursorSlice<PostRes> feed(String cursor, int size, Long userIdOrNull) {
+        int limit = clampFeedSize(size);
+        CreatedAtCursor c = CreatedAtCursor.parse(cursor);
+        List<Long> ids = (c == null)
+                ? posts.findFeedIds(PageRequest.of(0, limit + 1))
+                : posts.findFeedIdsBefore(c.createdAt(), c.id(), PageRequest.of(0, limit + 1));
+        return toFeedByIds(ids, limit, userIdOrNull);
+    }
+
+    /** 내가 작성한 게시물 피드 (idx_post_author_deleted_created) */
+    public CursorSlice<PostRes> myPostsFeed(Long userId, String cursor, int size) {
+        int limit = clampFeedSize(size);
+        CreatedAtCursor c = CreatedAtCursor.parse(cursor);
+        List<Long> ids = (c == null)
+                ? posts.findAuthorFeedIds(userId, PageRequest.of(0, limit + 1))
+                : posts.findAuthorFeedIdsBefore(userId, c.createdAt(), c.id(), PageRequest.of(0, limit + 1));
+        return toFeedByIds(ids, limit, userId);
+    }
+
+    /** 검색 피드 (검색 조건 + keyset 조건, LIMIT 만) */
+    public CursorSlice<PostRes> searchFeed(String q, PostCategory category, String tag,
+                                           String cursor, int size, Long userIdOrNull) {
+        int limit = clampFeedSize(size);
+        CreatedAtCursor c = CreatedAtCursor.parse(cursor);
+        if (useIndex(q)) {
+            // 역색인 일치 id 를 최신순(id 역순)으로, 커서의 id 다음부터
+            List<Long> ids = searchIndex.matchesBefore(q, category, tag, c == null ? null : c.id(), limit + 1);
+            return toFeedByIds(ids, limit, userIdOrNull);
+        }
+        Specification<Post> spec = searchSpec(q, category, tag);
+        if (c != null) spec = spec.and(before(c));
+        List<Post> fetched = posts.findBy(spec, fq -> fq.sortBy(FEED_SORT).limit(limit + 1).all());
+        return toFeed(fetched, limit, userIdOrNull);
+    }
+
+    private CursorSlice<PostRes> toFeed(List<Post> fetched, int limit, Long userIdOrNull) {
+        return CursorSlice.of(fetched, limit, PostQueryService::cursorOf)
+                .mapAll(content -> toRes(content, userIdOrNull));
+    }
+
+    /**
+     * id 목록(limit + 1 개까지)으로 커서 응답
+     * - hasNext/다음 커서는 적재 전 id 목록 기준 → 색인 반영 전에 삭제된 글이 빠져도 다음 페이지를 놓치지 않음
+     * - 삭제 글은 응답에서만 빼고 커서는 그 글 위치까지 진행 (그만큼 페이지가 limit 보다 짧을 수 있음)
+     */
+    private CursorSlice<PostRes> toFeedByIds(List<Long> ids, int limit, Long userIdOrNull) {
+        List<Long> pageIds = (ids.size() > limit) ? ids.subList(0, limit) : ids;
+        List<Post> loaded = loadInOrder(pageIds);
+        boolean hasNext = ids.size() > limit && !loaded.isEmpty();
+        String next = hasNext ? cursorOf(loaded.get(loaded.size() - 1)) : null;
+        List<Post> content = dropDeleted(pageIds, loaded);
+        return new CursorSlice<>(toRes(content, userIdOrNull), limit, hasNext, next);
+    }
+
+    private static String cursorOf(Post p) {
+        return new CreatedAtCursor(p.getCreatedAt(), p.getId()).encode();
+    }
+
+    /** id 순서(피드/검색 순위) 그대로 게시물 적재 (삭제된 글 포함, 커서 계산용) */
+    private List<Post> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Post> byId = new HashMap<>(ids.size() * 2);
+        for (Post p : posts.findWithImagesByIdIn(ids)) byId.put(p.getId(), p);
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /** 색인 반영 전에 삭제된 글은 응답에서 빼고 색인에서도 바로 제거 */
+    private List<Post> dropDeleted(List<Long> ids, List<Post> loaded) {
+        Set<Long> alive = new HashSet<>(loaded.size() * 2);
+        List<Post> out = new ArrayList<>(loaded.size());
+        for (Post p : loaded) {
+            if (p.isDeleted()) continue;
+            alive.add(p.getId());
+            out.add(p);
+        }
+        if (out.size() < ids.size()) {
+            searchIndex.evict(ids.stream().filter(id -> !alive.contains(id)).toList());
+        }
+        return out;
+    }
+
+    private static int clampFeedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
+
+    private static Specification<Post> before(CreatedAtCursor c) {
+        return (root, cq, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), c.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), c.createdAt()),
+                        cb.lessThan(root.<Long>get("id"), c.id())));
+    }
+
+    private boolean useIndex(String q) {
+        return q != null && !q.isBlank() && searchIndex.isReady();
+    }
 
+    /** DB 검색 조건 (검색어 LIKE 는 기동 직후 색인 적재 전에만 쓰임) */
+    private static Specification<Post> searchSpec(String q, PostCategory category, String tag) {
         Specification<Post> spec = Specification.where((root, cq, cb) -> cb.isFalse(root.get("deleted")));
         if (q != null && !q.isBlank()) {
             String like = "%" + q.trim() + "%";
@@ -58,16 +192,13 @@ public class PostQueryService {
             String normalized = tag.trim().toLowerCase();
             spec = spec.and((root, cq, cb) -> cb.isMember(normalized, root.get("tags")));
         }
-
-        Page<Post> p = posts.findAll(spec, pageable);
-        return attachReactions(p, userIdOrNull);
+        return spec;
     }
 
     public PostDetailRes getDetail(Long postId, Long userIdOrNull) {
         Post p = posts.findByIdAndDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
 
-        long likeCount = postLikes.countByPost_Id(postId);
         boolean liked = false;
         boolean scrapped = false;
 
@@ -75,7 +206,7 @@ public class PostQueryService {
             liked = postLikes.existsByUser_IdAndPost_Id(userIdOrNull, postId);
             scrapped = postScraps.existsByUser_IdAndPost_Id(userIdOrNull, postId);
         }
-        return PostDetailRes.of(p, likeCount, liked, scrapped);
+        return PostDetailRes.of(p, p.getLikeCount(), liked, scrapped);
     }
 
     private Page<PostRes> attachReactions(Page<Post> page, Long userIdOrNull) {
@@ -83,16 +214,31 @@ public class PostQueryService {
         if (content.isEmpty()) {
             return new PageImpl<>(Collections.emptyList(), page.getPageable(), page.getTotalElements());
         }
+        return new PageImpl<>(toRes(content, userIdOrNull), page.getPageable(), page.getTotalElements());
+    }
+
+    private Page<PostRes> overlayFlags(Page<PostRes> shared, Long userIdOrNull) {
+        if (userIdOrNull == null || userIdOrNull <= 0 || shared.isEmpty()) return shared;
+        long minId = shared.getContent().stream().mapToLong(PostRes::id).min().orElse(Long.MAX_VALUE);
+        if (!flagCache.covers(userIdOrNull, minId)) {
+            // 캐시 창보다 오래된 글이 섞이면 이 페이지만 IN 조회
+            List<Long> ids = shared.getContent().stream().map(PostRes::id).toList();
+            Set<Long> likedIds = new HashSet<>(postLikes.findLikedPostIds(userIdOrNull, ids));
+            Set<Long> scrappedIds = new HashSet<>(postScraps.findScrappedPostIds(userIdOrNull, ids));
+            return shared.map(r -> r.withFlags(likedIds.contains(r.id()), scrappedIds.contains(r.id())));
+        }
+        LongPredicate liked = flagCache.liked(userIdOrNull);
+        LongPredicate scrapped = flagCache.scrapped(userIdOrNull);
+        return shared.map(r -> r.withFlags(liked.test(r.id()), scrapped.test(r.id())));
+    }
+
+    /** 목록 한 번에 liked/scrapped 조회 후 매핑 (likeCount 는 posts 컬럼) */
+    private List<PostRes> toRes(List<Post> content, Long userIdOrNull) {
+        if (content.isEmpty()) return List.of();
 
         // 게시물 ID 목록
         List<Long> ids = content.stream().map(Post::getId).collect(Collectors.toList());
 
-        // 좋아요 수 집계
-        final Map<Long, Long> likeCountMap = new HashMap<>();
-        for (Object[] r : postLikes.countByPostIds(ids)) {
-            likeCountMap.put((Long) r[0], (Long) r[1]); // r[0]=postId, r[1]=count
-        }
-
         // 람다에서 안전하게 쓰기 위해 '변수 재할당 금지' 패턴 사용
         final Map<Long, Boolean> likedMap    = new HashMap<>();
         final Map<Long, Boolean> scrappedMap = new HashMap<>();
@@ -109,13 +255,11 @@ public class PostQueryService {
         // 목록 매핑
         List<PostRes> mapped = content.stream()
                 .map(p -> {
-                    long likeCnt   = likeCountMap.getOrDefault(p.getId(), 0L);
                     boolean liked  = (userIdOrNull != null) && Boolean.TRUE.equals(likedMap.get(p.getId()));
                     boolean scrapd = (userIdOrNull != null) && Boolean.TRUE.equals(scrappedMap.get(p.getId()));
-                    return PostRes.of(p, likeCnt, liked, scrapd);
+                    return PostRes.of(p, p.getLikeCount(), liked, scrapd);
                 })
                 .collect(Collectors.toList());
-
-        return new PageImpl<>(mapped, page.getPageable(), page.getTotalElements());
+        return mapped;
     }
 }
@@ -0,0 +1,176 @@
+package com.hearo.community.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hearo.community.repository.PostLikeRepository;
+import com.hearo.community.repository.PostScrapRepository;
+import com.hearo.community.repository.ReactionChangeBulkRepository;
+import com.hearo.global.tx.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자별 좋아요/스크랩 게시물 id 집합 캐시 (정렬된 long[])
+ * - 공유 피드 캐시 결과에 liked/scrapped 를 덧씌울 때 사용 (페이지마다 IN 조회 두 번 대신)
+ * - 토글은 커밋 후 캐시에 있는 배열만 새 배열로 교체 (write-through), 없으면 다음 조회 때 적재
+ * - 적재는 최근 게시물(id 큰 순) max-ids-per-user 개까지만 → floor 이상 id 만 정확, 그 아래는 covers()=false 로 호출부가 DB 조회
+ * - write-through 는 이 인스턴스만 갱신 → 토글 트랜잭션에서 reaction_changes 에 사용자별 변경 시각을 남기고,
+ *   각 인스턴스가 주기적으로(sync-ms) 읽어 바뀐 사용자의 항목을 비운다
+ *   (다른 인스턴스에서 한 토글은 최대 sync-ms 늦게 보임, 폴링이 실패하면 expireAfterWrite 가 상한)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostReactionFlagCache {
+
+    private static final long[] NONE = new long[0];
+
+    // floor: 이 id 이상인 게시물은 두 배열이 빠짐없이 담고 있음
+    private record Flags(long[] liked, long[] scrapped, long floor) {}
+
+    private final PostLikeRepository postLikes;
+    private final PostScrapRepository postScraps;
+    private final ReactionChangeBulkRepository changes;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${community.flag-cache.max-users:20000}")
+    private long maxUsers;
+
+    @Value("${community.flag-cache.expire-minutes:5}")
+    private long expireMinutes;
+
+    @Value("${community.flag-cache.max-ids-per-user:2000}")
+    private int maxIdsPerUser;
+
+    // 늦게 커밋된 변경(시각은 커밋 전에 찍힘)도 잡도록 겹쳐 읽는 구간
+    @Value("${community.flag-cache.sync-overlap-seconds:30}")
+    private long syncOverlapSeconds;
+
+    private LoadingCache<Long, Flags> cache;
+
+    // 폴링 기준 (DB 시계), syncChanges 안에서만 갱신
+    private LocalDateTime syncedTo;
+    // 이미 반영한 변경 userId -> changed_at (겹쳐 읽는 구간에서 같은 변경으로 다시 비우지 않게)
+    private final Map<Long, LocalDateTime> appliedChanges = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initCache() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "communityReactionFlags");
+    }
+
+    /** minPostId 이상 게시물의 플래그를 이 캐시로 판단할 수 있는지 */
+    public boolean covers(Long userId, long minPostId) {
+        return minPostId >= cache.get(userId).floor();
+    }
+
+    /** 비로그인이면 항상 false */
+    public LongPredicate liked(Long userIdOrNull) {
+        if (userIdOrNull == null) return id -> false;
+        long[] ids = cache.get(userIdOrNull).liked();
+        return id -> Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public LongPredicate scrapped(Long userIdOrNull) {
+        if (userIdOrNull == null) return id -> false;
+        long[] ids = cache.get(userIdOrNull).scrapped();
+        return id -> Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /** 토글 트랜잭션 안에서 호출 (변경 시각 기록은 토글과 함께 커밋) */
+    public void onLiked(Long userId, Long postId, boolean liked) {
+        changes.touch(userId);
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId,
+                (k, f) -> new Flags(liked ? with(f.liked(), postId) : without(f.liked(), postId), f.scrapped(), f.floor())));
+    }
+
+    public void onScrapped(Long userId, Long postId, boolean scrapped) {
+        changes.touch(userId);
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId,
+                (k, f) -> new Flags(f.liked(), scrapped ? with(f.scrapped(), postId) : without(f.scrapped(), postId), f.floor())));
+    }
+
+    /** 다른 인스턴스(이 인스턴스 포함)의 토글로 바뀐 사용자 항목 비우기 */
+    @Scheduled(fixedDelayString = "${community.flag-cache.sync-ms:5000}",
+            initialDelayString = "${community.flag-cache.sync-ms:5000}")
+    public synchronized void syncChanges() {
+        try {
+            if (syncedTo == null) {
+                syncedTo = changes.now();
+                return;
+            }
+            LocalDateTime since = syncedTo.minusSeconds(syncOverlapSeconds);
+            int invalidated = 0;
+            for (var e : changes.loadChangedSince(since).entrySet()) {
+                LocalDateTime prev = appliedChanges.put(e.getKey(), e.getValue());
+                if (prev != null && !e.getValue().isAfter(prev)) continue;
+                cache.invalidate(e.getKey());
+                invalidated++;
+                if (e.getValue().isAfter(syncedTo)) syncedTo = e.getValue();
+            }
+            appliedChanges.values().removeIf(t -> t.isBefore(since));
+            if (invalidated > 0) log.debug("[PostReactionFlagCache] invalidated {} users changed since {}", invalidated, since);
+        } catch (RuntimeException e) {
+            log.warn("[PostReactionFlagCache] change sync failed: {}", e.toString());
+        }
+    }
+
+    private Flags load(Long userId) {
+        Pageable window = PageRequest.of(0, maxIdsPerUser);
+        List<Long> liked = postLikes.findRecentPostIdsByUserId(userId, window);
+        List<Long> scrapped = postScraps.findRecentPostIdsByUserId(userId, window);
+        return new Flags(sorted(liked), sorted(scrapped), Math.max(floorOf(liked), floorOf(scrapped)));
+    }
+
+    /** 창을 다 채웠으면 가장 작은(마지막) id 까지만 정확, 아니면 전부 */
+    private long floorOf(List<Long> recentDesc) {
+        return (recentDesc.size() < maxIdsPerUser) ? Long.MIN_VALUE : recentDesc.get(recentDesc.size() - 1);
+    }
+
+    private static long[] sorted(List<Long> ids) {
+        if (ids.isEmpty()) return NONE;
+        long[] out = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(out);
+        return out;
+    }
+
+    private static long[] with(long[] ids, long id) {
+        int i = Arrays.binarySearch(ids, id);
+        if (i >= 0) return ids;
+        int at = -i - 1;
+        long[] out = new long[ids.length + 1];
+        System.arraycopy(ids, 0, out, 0, at);
+        out[at] = id;
+        System.arraycopy(ids, at, out, at + 1, ids.length - at);
+        return out;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        int i = Arrays.binarySearch(ids, id);
+        if (i < 0) return ids;
+        long[] out = new long[ids.length - 1];
+        System.arraycopy(ids, 0, out, 0, i);
+        System.arraycopy(ids, i + 1, out, i, ids.length - i - 1);
+        return out;
+    }
+}
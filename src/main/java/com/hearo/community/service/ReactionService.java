@@ -6,7 +6,6 @@ import com.hearo.community.dto.ReactionRes;
 import com.hearo.community.repository.*;
 import com.hearo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,87 +23,99 @@ public class ReactionService {
     private final CommentLikeRepository commentLikes;
     private final PostScrapRepository postScraps;
     private final UserRepository users;
+    private final PostFeedCache feedCache;
+    private final PostReactionFlagCache flagCache;
+
+    /*
+     * 토글은 대상 행 배타 잠금 → INSERT IGNORE ... SELECT / DELETE ... JOIN 한 문장 → 카운터 증감
+     * - 잠금을 먼저 잡지 않으면 INSERT 의 FK 검사(공유 잠금)와 카운터 UPDATE(배타 잠금)가 동시 요청끼리 교착
+     * - 영향 행 수가 1 일 때만 카운터 증감 → 동시 요청에도 정확히 한 번
+     * - 대상이 없으면 잠금 단계에서 기존과 같은 예외
+     */
 
     /* ===== 게시물 좋아요 ===== */
 
     public ReactionRes likePost(Long userId, Long postId) {
-        var p = posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-        var u = users.findById(userId).orElseThrow();
-
-        if (!postLikes.existsByUser_IdAndPost_Id(userId, postId)) {
-            try {
-                postLikes.save(PostLike.of(u, p));
-            } catch (DataIntegrityViolationException ignore) {
-                // 동시성으로 인한 Unique 충돌은 멱등 처리: 이미 좋아요 상태로 간주
-            }
+        lockActivePost(postId);
+        if (postLikes.insertIgnore(userId, postId) == 1) {
+            posts.addLikeCount(postId, 1);
+            feedCache.onLikeCountChanged(postId, 1);
+            flagCache.onLiked(userId, postId, true);
+        } else {
+            requireUser(userId);
         }
-        long cnt = postLikes.countByPost_Id(postId);
-        return new ReactionRes(true, cnt);
+        return new ReactionRes(true, posts.findLikeCount(postId));
     }
 
     public ReactionRes unlikePost(Long userId, Long postId) {
-        posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-        postLikes.deleteByUser_IdAndPost_Id(userId, postId);
-        long cnt = postLikes.countByPost_Id(postId);
-        return new ReactionRes(false, cnt);
+        lockActivePost(postId);
+        if (postLikes.deleteActive(userId, postId) == 1) {
+            posts.addLikeCount(postId, -1);
+            feedCache.onLikeCountChanged(postId, -1);
+            flagCache.onLiked(userId, postId, false);
+        }
+        return new ReactionRes(false, posts.findLikeCount(postId));
     }
 
     /* ===== 댓글/대댓글 좋아요 ===== */
 
     public ReactionRes likeComment(Long userId, Long commentId) {
-        var c = comments.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-        if (c.isDeleted()) throw new IllegalArgumentException("삭제된 댓글입니다.");
-
-        var u = users.findById(userId).orElseThrow();
-        if (!commentLikes.existsByUser_IdAndComment_Id(userId, commentId)) {
-            try {
-                commentLikes.save(CommentLike.of(u, c));
-            } catch (DataIntegrityViolationException ignore) {
-                // 동시성으로 인한 Unique 충돌은 멱등 처리
-            }
+        lockActiveComment(commentId);
+        if (commentLikes.insertIgnore(userId, commentId) == 1) {
+            comments.addLikeCount(commentId, 1);
+        } else {
+            requireUser(userId);
         }
-        long cnt = commentLikes.countByComment_Id(commentId);
-        return new ReactionRes(true, cnt);
+        return new ReactionRes(true, comments.findLikeCount(commentId));
     }
 
     public ReactionRes unlikeComment(Long userId, Long commentId) {
-        var c = comments.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-        if (c.isDeleted()) throw new IllegalArgumentException("삭제된 댓글입니다.");
-
-        commentLikes.deleteByUser_IdAndComment_Id(userId, commentId);
-        long cnt = commentLikes.countByComment_Id(commentId);
-        return new ReactionRes(false, cnt);
+        lockActiveComment(commentId);
+        if (commentLikes.deleteActive(userId, commentId) == 1) {
+            comments.addLikeCount(commentId, -1);
+        }
+        return new ReactionRes(false, comments.findLikeCount(commentId));
     }
 
     /* ===== 게시물 스크랩 ===== */
 
     public ReactionRes scrapPost(Long userId, Long postId) {
-        var p = posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-        var u = users.findById(userId).orElseThrow();
-
-        if (!postScraps.existsByUser_IdAndPost_Id(userId, postId)) {
-            try {
-                postScraps.save(PostScrap.of(u, p));
-            } catch (DataIntegrityViolationException ignore) {
-                // 동시성으로 인한 Unique 충돌은 멱등 처리
-            }
+        lockActivePost(postId);
+        if (postScraps.insertIgnore(userId, postId) == 1) {
+            posts.addScrapCount(postId, 1);
+            flagCache.onScrapped(userId, postId, true);
+        } else {
+            requireUser(userId);
         }
         // 스크랩은 카운트 보지 않기로 했으므로 0 고정
         return new ReactionRes(true, 0);
     }
 
     public ReactionRes unscrapPost(Long userId, Long postId) {
-        posts.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-        postScraps.deleteByUser_IdAndPost_Id(userId, postId);
+        lockActivePost(postId);
+        if (postScraps.deleteActive(userId, postId) == 1) {
+            posts.addScrapCount(postId, -1);
+            flagCache.onScrapped(userId, postId, false);
+        }
         return new ReactionRes(false, 0);
     }
 
+    private void lockActivePost(Long postId) {
+        if (posts.lockActive(postId).isEmpty())
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
+    }
+
+    private void lockActiveComment(Long commentId) {
+        if (comments.lockActive(commentId).isPresent()) return;
+        // 없는 댓글과 삭제된 댓글은 기존처럼 메시지 구분
+        if (comments.existsById(commentId)) throw new IllegalArgumentException("삭제된 댓글입니다.");
+        throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+    }
+
+    private void requireUser(Long userId) {
+        if (!users.existsById(userId)) throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+    }
+
     /** 내 스크랩 목록 (스크랩한 시각 최신순) */
     @Transactional(readOnly = true)
     public Page<PostRes> listMyScraps(Long userId, int page, int size) {
@@ -121,7 +132,7 @@ public class ReactionService {
         return attachReactions(p, userId);
     }
 
-    /** 좋아요/스크랩 플래그 + likeCount 붙여주는 공통 로직 */
+    /** 좋아요/스크랩 플래그 붙여주는 공통 로직 (likeCount 는 posts 컬럼 그대로) */
     private Page<PostRes> attachReactions(Page<Post> page, Long userId) {
         var content = page.getContent();
         if (content.isEmpty()) {
@@ -130,12 +141,6 @@ public class ReactionService {
 
         var ids = content.stream().map(Post::getId).toList();
 
-        // 좋아요 수 집계
-        Map<Long, Long> likeCountMap = new HashMap<>();
-        for (Object[] r : postLikes.countByPostIds(ids)) {
-            likeCountMap.put((Long) r[0], (Long) r[1]); // r[0]=postId, r[1]=count
-        }
-
         Map<Long, Boolean> likedMap = new HashMap<>();
         Map<Long, Boolean> scrappedMap = new HashMap<>();
 
@@ -149,10 +154,9 @@ public class ReactionService {
 
         var mapped = content.stream()
                 .map(p -> {
-                    long likeCnt = likeCountMap.getOrDefault(p.getId(), 0L);
                     boolean liked = Boolean.TRUE.equals(likedMap.get(p.getId()));
                     boolean scrapped = Boolean.TRUE.equals(scrappedMap.get(p.getId()));
-                    return PostRes.of(p, likeCnt, liked, scrapped);
+                    return PostRes.of(p, p.getLikeCount(), liked, scrapped);
                 })
                 .toList();
 
@@ -0,0 +1,37 @@
+package com.hearo.global.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * id 별 증감 버퍼 (write-behind 카운터용)
+ * - add 는 락 없이 AtomicLong 셀에 누적, drain 은 셀마다 getAndSet(0) 으로 비우므로 동시 add 를 잃지 않는다
+ *   (LongAdder.sumThenReset 은 합산과 초기화 사이에 들어온 add 를 지울 수 있어 쓰지 않음)
+ * - 키는 지우지 않는다 (카운트 대상 수만큼만 커짐)
+ */
+public final class DeltaBuffer {
+
+    private final ConcurrentHashMap<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        if (delta == 0) return;
+        pending.computeIfAbsent(id, k -> new AtomicLong()).addAndGet(delta);
+    }
+
+    /** 쌓인 증감을 꺼내고 0 으로 되돌림 (0 인 항목은 제외) */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> out = new HashMap<>();
+        pending.forEach((id, cell) -> {
+            long d = cell.getAndSet(0);
+            if (d != 0) out.put(id, d);
+        });
+        return out;
+    }
+
+    /** 반영 실패분을 다음 drain 으로 되돌림 */
+    public void requeue(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
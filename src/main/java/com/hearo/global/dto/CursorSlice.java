@@ -0,0 +1,35 @@
+package com.hearo.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 목록 응답 — 전체 개수 없이 "다음" 여부와 다음 커서만 준다
+ * @param nextCursor 다음 요청의 after 값 (마지막 페이지면 null)
+ */
+public record CursorSlice<T>(
+        List<T> items,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    /**
+     * size + 1 개까지 조회한 결과로 응답 생성 (초과분이 있으면 hasNext)
+     * @param cursorOf 마지막 항목으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        String next = (hasNext && !items.isEmpty()) ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorSlice<>(items, size, hasNext, next);
+    }
+
+    public <R> CursorSlice<R> map(Function<T, R> fn) {
+        return new CursorSlice<>(items.stream().map(fn).toList(), size, hasNext, nextCursor);
+    }
+
+    /** 페이지 단위 변환 (목록 전체로 한 번에 조회해야 하는 값을 붙일 때) */
+    public <R> CursorSlice<R> mapAll(Function<List<T>, List<R>> fn) {
+        return new CursorSlice<>(List.copyOf(fn.apply(items)), size, hasNext, nextCursor);
+    }
+}
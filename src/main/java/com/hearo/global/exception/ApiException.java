@@ -17,4 +17,9 @@ public class ApiException extends RuntimeException {
         super(overrideMessage);
         this.errorStatus = errorStatus;
     }
+
+    public ApiException(ErrorStatus errorStatus, String overrideMessage, Throwable cause) {
+        super(overrideMessage, cause);
+        this.errorStatus = errorStatus;
+    }
 }
@@ -0,0 +1,51 @@
+package com.hearo.global.external;
+
+/**
+ * AIMD(가산 증가/승수 감소) 동시성 제한기
+ * - 현재 한도(limit)만큼 동시에 호출 허용
+ * - 성공이 limit 회 누적될 때마다 한도 +1 (최대 max), 혼잡 신호(429/한도/지연)면 한도 절반 (최소 1)
+ * 외부 API 가 허용하는 만큼만 천천히 올라가고, 막히는 순간 바로 물러서도록 한다.
+ */
+public class AimdLimiter {
+
+    private final int max;
+    private int limit;
+    private int inFlight;
+    private int successStreak;
+    private int peak;
+
+    public AimdLimiter(int initial, int max) {
+        this.max = Math.max(1, max);
+        this.limit = Math.min(Math.max(1, initial), this.max);
+        this.peak = this.limit;
+    }
+
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) wait();
+        inFlight++;
+    }
+
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    public synchronized void onSuccess() {
+        if (++successStreak < limit) return;
+        successStreak = 0;
+        if (limit < max) {
+            limit++;
+            peak = Math.max(peak, limit);
+            notifyAll();
+        }
+    }
+
+    public synchronized void onCongestion() {
+        successStreak = 0;
+        limit = Math.max(1, limit / 2);
+    }
+
+    public synchronized int limit() { return limit; }
+
+    public synchronized int peak() { return peak; }
+}
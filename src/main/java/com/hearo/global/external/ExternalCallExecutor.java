@@ -0,0 +1,137 @@
+package com.hearo.global.external;
+
+import com.hearo.global.exception.ApiException;
+import com.hearo.global.response.ErrorStatus;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API 공통 실행기
+ * - guard(): 업스트림별 rate limiter + circuit breaker (실제 외부 호출 1회 단위)
+ * - retrying(): 일시 오류만 지수 백오프 + jitter 재시도, 전체 제한 시간 적용 (대기는 스레드를 점유하지 않음)
+ * - await(): 서블릿 스레드 등 블로킹 호출자용. 제한 시간 안에 끝나지 않으면 EXTERNAL_ERROR
+ * 업스트림별 설정은 resilience4j.circuitbreaker/ratelimiter.instances.{name} 프로퍼티로 덮어쓸 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExternalCallExecutor {
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+    private static final double JITTER = 0.5;
+
+    // 프로퍼티에 인스턴스 설정이 없을 때의 기본값 (공공 API 보호용으로 보수적으로)
+    private static final CircuitBreakerConfig DEFAULT_CB = CircuitBreakerConfig.custom()
+            .slidingWindowSize(20)
+            .minimumNumberOfCalls(10)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofSeconds(30))
+            .permittedNumberOfCallsInHalfOpenState(3)
+            .recordException(ExternalCallExecutor::isTransient)
+            .build();
+
+    private static final RateLimiterConfig DEFAULT_RL = RateLimiterConfig.custom()
+            .limitForPeriod(10)
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofSeconds(5))
+            .build();
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RateLimiterRegistry rateLimiters;
+
+    /** 외부 호출 1회에 rate limiter + circuit breaker 적용 */
+    public <T> Mono<T> guard(String upstream, Mono<T> call) {
+        return call
+                .transformDeferred(RateLimiterOperator.of(rateLimiter(upstream)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker(upstream)));
+    }
+
+    /** 일시 오류 재시도 + 전체 제한 시간 */
+    public <T> Mono<T> retrying(Mono<T> call, RetryPolicy policy) {
+        Mono<T> m = call;
+        if (policy.maxRetries() > 0) {
+            m = m.retryWhen(Retry.backoff(policy.maxRetries(), policy.firstBackoff())
+                    .maxBackoff(MAX_BACKOFF)
+                    .jitter(JITTER)
+                    .filter(ExternalCallExecutor::isTransient)
+                    .doBeforeRetry(s -> log.warn("[ExternalCall] transient err={}, attempt={}",
+                            rootName(s.failure()), s.totalRetries() + 1))
+                    .onRetryExhaustedThrow((spec, s) -> s.failure()));
+        }
+        return m.timeout(policy.deadline());
+    }
+
+    /** 블로킹 호출자용: 재시도 포함 deadline 안에서만 대기 */
+    public <T> T await(Mono<T> call, RetryPolicy policy) {
+        try {
+            return retrying(call, policy).block();
+        } catch (RuntimeException e) {
+            // block() 은 checked 예외(TimeoutException)를 감싸서 던짐
+            // 원래 예외는 cause 로 남김 (호출부가 한도/차단 여부를 원인으로 판단)
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ApiException(ErrorStatus.EXTERNAL_ERROR, "외부 API 응답 지연 (제한 시간 " + policy.deadline().toMillis() + "ms 초과)", e);
+            }
+            if (e instanceof CallNotPermittedException) {
+                throw new ApiException(ErrorStatus.EXTERNAL_ERROR, "외부 API 장애로 일시 차단 중입니다.", e);
+            }
+            if (e instanceof RequestNotPermitted) {
+                throw new ApiException(ErrorStatus.EXTERNAL_ERROR, "외부 API 호출량 제한으로 처리하지 못했습니다.", e);
+            }
+            throw e;
+        }
+    }
+
+    /* ================= 공통 판정 ================= */
+
+    public static boolean isTransient(Throwable t) {
+        if (t instanceof WebClientRequestException) return true;
+        if (t instanceof WebClientResponseException w) {
+            int s = w.getStatusCode().value();
+            return s == 429 || s == 502 || s == 503 || s == 504;
+        }
+        Throwable c = t.getCause();
+        while (c != null) {
+            if (c instanceof java.net.SocketTimeoutException
+                    || c instanceof io.netty.handler.timeout.ReadTimeoutException) return true;
+            c = c.getCause();
+        }
+        return false;
+    }
+
+    public static boolean isTooManyRequests(Throwable t) {
+        return (t instanceof WebClientResponseException w) && w.getStatusCode().value() == 429;
+    }
+
+    public static String rootName(Throwable t) {
+        Throwable c = t;
+        while (c.getCause() != null) c = c.getCause();
+        return c.getClass().getSimpleName();
+    }
+
+    // 프로퍼티로 선언된 인스턴스는 기동 시 이미 등록되어 있으므로 그대로 반환됨
+    private CircuitBreaker circuitBreaker(String upstream) {
+        return circuitBreakers.circuitBreaker(upstream, DEFAULT_CB);
+    }
+
+    private RateLimiter rateLimiter(String upstream) {
+        return rateLimiters.rateLimiter(upstream, DEFAULT_RL);
+    }
+}
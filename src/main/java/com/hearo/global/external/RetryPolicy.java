@@ -0,0 +1,20 @@
+package com.hearo.global.external;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출 재시도/제한시간 정책
+ * @param maxRetries   일시 오류 재시도 횟수 (0 이면 재시도 없음)
+ * @param firstBackoff 첫 재시도 대기 (이후 지수 증가 + jitter)
+ * @param deadline     재시도 포함 전체 제한 시간 (블로킹 호출자는 이 시간 이상 묶이지 않음)
+ */
+public record RetryPolicy(int maxRetries, Duration firstBackoff, Duration deadline) {
+
+    public static RetryPolicy of(int maxRetries, long firstBackoffMs, long deadlineMs) {
+        return new RetryPolicy(maxRetries, Duration.ofMillis(firstBackoffMs), Duration.ofMillis(deadlineMs));
+    }
+
+    public static RetryPolicy noRetry(long deadlineMs) {
+        return of(0, 0, deadlineMs);
+    }
+}
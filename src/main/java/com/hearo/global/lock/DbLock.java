@@ -0,0 +1,72 @@
+package com.hearo.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 간 단일 실행용 MySQL 네임드 락 (GET_LOCK / RELEASE_LOCK)
+ * - 락은 커넥션에 묶이므로 작업하는 동안 커넥션 하나를 따로 잡고 있다가 같은 커넥션으로 해제
+ * - 기다리지 않음: 다른 인스턴스가 잡고 있으면 실행하지 않고 빈 값
+ * - 커넥션이 끊기면(인스턴스 종료 등) DB 가 락을 풀어 준다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DbLock {
+
+    private static final String PREFIX = "hearo:";
+
+    private final DataSource dataSource;
+
+    public <T> Optional<T> tryRun(String name, Supplier<T> task) {
+        String key = PREFIX + name;
+        try (Connection con = dataSource.getConnection()) {
+            if (!acquire(con, key)) {
+                log.debug("[DbLock] {} is held by another instance. skip.", key);
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                release(con, key);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("DB 락 처리 실패: " + key, e);
+        }
+    }
+
+    public boolean tryRun(String name, Runnable task) {
+        return tryRun(name, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private static boolean acquire(Connection con, String key) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void release(Connection con, String key) {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, key);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            // 커넥션을 닫으면 어차피 풀린다
+            log.warn("[DbLock] release failed {}: {}", key, e.toString());
+        }
+    }
+}
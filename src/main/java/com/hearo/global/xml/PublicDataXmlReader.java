@@ -0,0 +1,97 @@
+package com.hearo.global.xml;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.xml.XmlEventDecoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+import javax.xml.stream.events.XMLEvent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공공데이터포털 형식 XML 응답 스트리밍 리더
+ * <pre>
+ * &lt;response&gt;
+ *   &lt;header&gt;resultCode, resultMsg&lt;/header&gt;
+ *   &lt;body&gt;&lt;items&gt;&lt;item&gt;...&lt;/item&gt;...&lt;/items&gt;numOfRows, pageNo, totalCount&lt;/body&gt;
+ * &lt;/response&gt;
+ * </pre>
+ * - WebClient 의 DataBuffer 흐름을 Aalto 비동기 StAX 파서로 바로 읽음 (본문 전체 String/트리 생성 없음)
+ * - item 은 닫히는 즉시 하나씩 방출, header/body 스칼라 값은 해당 요소가 닫힐 때 방출
+ * - 디코더 메모리 상한은 요소 하나가 아니라 최상위(depth 1) 요소 전체(= &lt;body&gt; 한 덩어리)에 걸리므로
+ *   WebClient 코덱 상한과 같은 값을 넘겨받는다 (spring.webclient.max-in-memory-size)
+ * - 파싱 상태는 구독마다 새로 만든다
+ */
+public final class PublicDataXmlReader {
+
+    public enum Section { HEADER, BODY, ITEM }
+
+    /** section 바로 아래 단일 값 요소들 (요소명 → 텍스트) */
+    public record Fields(Section section, Map<String, String> values) {
+        public String get(String name) { return values.get(name); }
+    }
+
+    private static final ResolvableType EVENT_TYPE = ResolvableType.forClass(XMLEvent.class);
+
+    private PublicDataXmlReader() {}
+
+    /** @param maxInMemorySize 최상위 요소 하나(헤더 또는 본문 전체)를 모을 수 있는 최대 바이트 */
+    public static Flux<Fields> read(Flux<DataBuffer> body, int maxInMemorySize) {
+        return Flux.defer(() -> {
+            State state = new State();
+            return createDecoder(maxInMemorySize).decode(body, EVENT_TYPE, null, Map.of())
+                    .handle(state::accept);
+        });
+    }
+
+    private static XmlEventDecoder createDecoder(int maxInMemorySize) {
+        XmlEventDecoder decoder = new XmlEventDecoder();
+        decoder.setMaxInMemorySize(maxInMemorySize);
+        return decoder;
+    }
+
+    private static final class State {
+        private final Deque<String> path = new ArrayDeque<>();
+        private final StringBuilder text = new StringBuilder();
+        private final Map<String, String> header = new LinkedHashMap<>();
+        private final Map<String, String> body = new LinkedHashMap<>();
+        private Map<String, String> item;
+        private boolean leaf; // 자식 요소 없이 닫히는 요소만 값으로 취급
+
+        void accept(XMLEvent ev, SynchronousSink<Fields> sink) {
+            if (ev.isStartElement()) {
+                String name = ev.asStartElement().getName().getLocalPart();
+                if ("item".equals(name) && "items".equals(path.peek())) item = new LinkedHashMap<>();
+                path.push(name);
+                text.setLength(0);
+                leaf = true;
+
+            } else if (ev.isCharacters()) {
+                text.append(ev.asCharacters().getData());
+
+            } else if (ev.isEndElement() && !path.isEmpty()) {
+                String name = path.pop();
+                String parent = path.peek();
+
+                if ("item".equals(name) && "items".equals(parent) && item != null) {
+                    sink.next(new Fields(Section.ITEM, item));
+                    item = null;
+                } else if ("header".equals(name)) {
+                    sink.next(new Fields(Section.HEADER, header));
+                } else if ("body".equals(name)) {
+                    sink.next(new Fields(Section.BODY, body));
+                } else if (leaf) {
+                    if (item != null && "item".equals(parent)) item.put(name, text.toString().trim());
+                    else if ("header".equals(parent)) header.put(name, text.toString().trim());
+                    else if ("body".equals(parent)) body.put(name, text.toString().trim());
+                }
+                text.setLength(0);
+                leaf = false;
+            }
+        }
+    }
+}
@@ -1,21 +1,45 @@
 package com.hearo.job.client;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hearo.global.external.ExternalCallExecutor;
+import com.hearo.global.xml.PublicDataXmlReader;
 import com.hearo.job.client.dto.JobRawResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+
+/**
+ * 구인정보 외부 API 클라이언트
+ * - (pageNo, numOfRows) 단위 비동기 로딩 캐시: 같은 페이지 동시 요청은 진행 중인 호출 하나를 공유(single-flight)
+ * - refreshAfterWrite 로 만료 전 백그라운드 갱신, 실패한 로드(헤더 resultCode 오류 포함)는 캐시에 남지 않음
+ * - 스냅샷 수집은 {@link #fetchUncached}로 캐시를 거치지 않음 (사용자용 항목을 밀어내지 않도록)
+ * - 실제 외부 호출에만 rate limiter/circuit breaker 적용 (캐시 적중은 한도를 소모하지 않음)
+ * - 적중/미스 지표는 cache.* 메트릭(cache=jobPages)으로 노출
+ * - 응답은 {@link PublicDataXmlReader}로 스트리밍 파싱 (본문 전체를 문자열로 올리지 않음)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JobApiClient {
 
+    public static final String UPSTREAM = "jobApi";
+
     private final WebClient jobWebClient;
+    private final MeterRegistry meterRegistry;
+    private final ExternalCallExecutor externalCalls;
 
     @Value("${job.api.path}")
     private String jobPath;
@@ -23,9 +47,63 @@ public class JobApiClient {
     @Value("${job.api.service-key}")
     private String encodedServiceKey;
 
-    public JobRawResponse fetch(int pageNo, int numOfRows) {
-        // 1) XML을 문자열로 먼저 받기 (코덱 문제 회피)
-        String xml = jobWebClient.get()
+    // WebClient 코덱 상한과 같은 값 (XML 디코더 상한은 <body> 전체에 걸림)
+    @Value("${spring.webclient.max-in-memory-size:4194304}")
+    private int maxInMemorySize;
+
+    @Value("${job.api.page-cache.ttl-seconds:120}")
+    private long cacheTtlSeconds;
+
+    @Value("${job.api.page-cache.refresh-seconds:30}")
+    private long cacheRefreshSeconds;
+
+    // 페이지 크기가 제각각이라 항목 수 기준으로 용량 제한
+    @Value("${job.api.page-cache.max-items:20000}")
+    private long cacheMaxItems;
+
+    private AsyncLoadingCache<PageKey, JobRawResponse> pageCache;
+
+    private record PageKey(int pageNo, int numOfRows) {}
+
+    @PostConstruct
+    void initCache() {
+        this.pageCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxItems)
+                .weigher((PageKey k, JobRawResponse v) -> Math.max(1, itemCount(v)))
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(cacheRefreshSeconds))
+                .recordStats()
+                .buildAsync((key, executor) -> externalCalls.guard(UPSTREAM, request(key.pageNo(), key.numOfRows()))
+                        .flatMap(JobApiClient::requireSuccess)
+                        .toFuture());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pageCache.synchronous(), "jobPages");
+    }
+
+    /**
+     * 캐시 경유 페이지 조회 (구독 시점에 로드, 실패 시 원래 예외 그대로 전달)
+     * - 한 구독자의 취소/타임아웃이 같은 페이지를 기다리는 다른 요청의 공유 로드를 끊지 않도록 suppressCancel
+     */
+    public Mono<JobRawResponse> fetch(int pageNo, int numOfRows) {
+        return Mono.fromFuture(() -> pageCache.get(new PageKey(pageNo, numOfRows)), true);
+    }
+
+    /** 캐시 없이 바로 호출 (스냅샷 수집용, 한도 보호는 그대로) */
+    public Mono<JobRawResponse> fetchUncached(int pageNo, int numOfRows) {
+        return externalCalls.guard(UPSTREAM, request(pageNo, numOfRows));
+    }
+
+    /** 헤더가 정상(00/0000)인 응답만 캐시에 남김 — 오류 응답은 실패로 넘겨 적재하지 않음 */
+    private static Mono<JobRawResponse> requireSuccess(JobRawResponse raw) {
+        String code = (raw.getHeader() == null) ? null : raw.getHeader().getResultCode();
+        if ("00".equals(code) || "0000".equals(code)) return Mono.just(raw);
+        String msg = (raw.getHeader() == null) ? null : raw.getHeader().getResultMsg();
+        return Mono.error(new IllegalStateException("Job API 오류: " + (msg == null ? code : msg)));
+    }
+
+    /** 실제 외부 호출 (캐시 로더) — 응답 본문을 스트리밍으로 읽어 item 단위로 조립 */
+    private Mono<JobRawResponse> request(int pageNo, int numOfRows) {
+        return jobWebClient.get()
                 .uri(b -> b.path(jobPath)
                         .queryParam("serviceKey", encodedServiceKey)
                         .queryParam("pageNo", Integer.toString(pageNo))
@@ -33,22 +111,82 @@ public class JobApiClient {
                         .build())
                 .accept(MediaType.APPLICATION_XML)                               // application/xml;charset=utf-8 대응
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToFlux(DataBuffer.class)
+                .transform(b -> PublicDataXmlReader.read(b, maxInMemorySize))
+                .collect(JobRawResponse::new, JobApiClient::accumulate)
+                .onErrorMap(e -> !(e instanceof WebClientException), e -> {
+                    log.warn("[JobApiClient] XML 파싱 실패: {}", e.toString());
+                    return new IllegalStateException("외부 API XML 파싱 실패", e);
+                })
+                .flatMap(raw -> (raw.getHeader() == null && raw.getBody() == null)
+                        ? Mono.error(new IllegalStateException("외부 API 응답이 비어 있습니다."))
+                        : Mono.just(raw));
+    }
 
-        if (xml == null || xml.isBlank()) {
-            throw new IllegalStateException("외부 API 응답이 비어 있습니다.");
+    private static void accumulate(JobRawResponse raw, PublicDataXmlReader.Fields f) {
+        switch (f.section()) {
+            case HEADER -> {
+                var h = new JobRawResponse.Header();
+                h.setResultCode(f.get("resultCode"));
+                h.setResultMsg(f.get("resultMsg"));
+                raw.setHeader(h);
+            }
+            case BODY -> {
+                var body = bodyOf(raw);
+                body.setNumOfRows(parseIntOrNull(f.get("numOfRows")));
+                body.setPageNo(parseIntOrNull(f.get("pageNo")));
+                body.setTotalCount(parseIntOrNull(f.get("totalCount")));
+            }
+            case ITEM -> bodyOf(raw).getItems().getItem().add(toItem(f));
         }
+    }
 
-        // 2) XmlMapper로 안전 파싱 (알 수 없는 필드 무시)
-        try {
-            XmlMapper xm = XmlMapper.builder()
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                    .build();
-            return xm.readValue(xml, JobRawResponse.class);
-        } catch (Exception e) {
-            log.warn("[JobApiClient] XML 파싱 실패: {}", e.toString());
-            throw new IllegalStateException("외부 API XML 파싱 실패", e);
+    private static JobRawResponse.Body bodyOf(JobRawResponse raw) {
+        if (raw.getBody() == null) {
+            var items = new JobRawResponse.Items();
+            items.setItem(new ArrayList<>());
+            var body = new JobRawResponse.Body();
+            body.setItems(items);
+            raw.setBody(body);
         }
+        return raw.getBody();
+    }
+
+    private static JobRawResponse.Item toItem(PublicDataXmlReader.Fields f) {
+        var i = new JobRawResponse.Item();
+        i.setTermDate(f.get("termDate"));
+        i.setBusplaName(f.get("busplaName"));
+        i.setCntctNo(f.get("cntctNo"));
+        i.setCompAddr(f.get("compAddr"));
+        i.setEmpType(f.get("empType"));
+        i.setEnterType(f.get("enterType"));
+        i.setEnvBothHands(f.get("envBothHands"));
+        i.setEnvEyesight(f.get("envEyesight"));
+        i.setEnvHandwork(f.get("envHandwork"));
+        i.setEnvLiftPower(f.get("envLiftPower"));
+        i.setEnvLstnTalk(f.get("envLstnTalk"));
+        i.setEnvStndWalk(f.get("envStndWalk"));
+        i.setJobNm(f.get("jobNm"));
+        i.setOfferregDt(f.get("offerregDt"));
+        i.setRegDt(f.get("regDt"));
+        i.setRegagnName(f.get("regagnName"));
+        i.setReqCareer(f.get("reqCareer"));
+        i.setReqEduc(f.get("reqEduc"));
+        i.setRno(f.get("rno"));
+        i.setRnum(f.get("rnum"));
+        i.setSalary(f.get("salary"));
+        i.setSalaryType(f.get("salaryType"));
+        return i;
+    }
+
+    private static Integer parseIntOrNull(String s) {
+        try { return (s == null || s.isBlank()) ? null : Integer.parseInt(s.trim()); }
+        catch (NumberFormatException e) { return null; }
+    }
+
+    private static int itemCount(JobRawResponse raw) {
+        if (raw == null || raw.getBody() == null || raw.getBody().getItems() == null
+                || raw.getBody().getItems().getItem() == null) return 0;
+        return raw.getBody().getItems().getItem().size();
     }
 }
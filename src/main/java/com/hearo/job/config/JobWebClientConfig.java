@@ -30,6 +30,9 @@ public class JobWebClientConfig {
     @Value("${spring.webclient.read-timeout-ms:5000}")
     private int readTimeoutMs;
 
+    @Value("${spring.webclient.max-in-memory-size:4194304}")
+    private int maxInMemorySize;
+
     @Bean
     public WebClient jobWebClient() {
         // 쿼리 재인코딩 금지 (serviceKey 그대로 전달)
@@ -43,7 +46,7 @@ public class JobWebClientConfig {
 
         // 기본 코덱만 사용 (jackson-dataformat-xml 존재시 Jackson2XmlDecoder 자동 활성화)
         ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(c -> c.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(maxInMemorySize))
                 .build();
 
         return WebClient.builder()
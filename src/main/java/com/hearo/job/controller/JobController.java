@@ -14,8 +14,6 @@ import org.springframework.web.reactive.function.client.WebClientRequestExceptio
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * 구인정보 API
@@ -102,28 +100,12 @@ public class JobController {
         }
     }
 
-    /** 4) (옵션) 필터 facet 값 (드롭다운용 샘플) */
+    /** 4) (옵션) 필터 facet 값 (드롭다운용, 스냅샷 기준) */
     @GetMapping("/external/facets")
     public ResponseEntity<ApiResponse<Map<String, Object>>> facets(
             @RequestParam(defaultValue = "100") int numOfRows
     ) {
         if (numOfRows < 1) numOfRows = 50;
-        var page = service.externalList(1, numOfRows);
-
-        Set<String> empTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        Set<String> salaryTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        Set<String> enterTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-
-        page.getItems().forEach(i -> {
-            if (i.getEmpType() != null && !i.getEmpType().isBlank()) empTypes.add(i.getEmpType());
-            if (i.getSalaryType() != null && !i.getSalaryType().isBlank()) salaryTypes.add(i.getSalaryType());
-            if (i.getEnterType() != null && !i.getEnterType().isBlank()) enterTypes.add(i.getEnterType());
-        });
-
-        return ApiResponse.success(SuccessStatus.FETCHED, Map.of(
-                "empTypes", empTypes,
-                "salaryTypes", salaryTypes,
-                "enterTypes", enterTypes
-        ));
+        return ApiResponse.success(SuccessStatus.FETCHED, service.facets(numOfRows));
     }
 }
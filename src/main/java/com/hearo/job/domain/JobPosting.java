@@ -0,0 +1,151 @@
+package com.hearo.job.domain;
+
+import com.hearo.global.entity.BaseTimeEntity;
+import com.hearo.job.dto.JobDetailDto;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구인정보 로컬 스냅샷 행
+ * - 외부 API 전체 목록을 주기적으로 적재한 사본 (rno 기준 upsert)
+ * - syncedAt: 마지막으로 외부 목록에서 확인된 시각 (전체 동기화 후 오래된 행 정리에 사용)
+ */
+@Entity
+@Table(name = "job_postings", indexes = {
+        @Index(name = "idx_job_rno", columnList = "rno", unique = true),
+        @Index(name = "idx_job_synced_at", columnList = "syncedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobPosting extends BaseTimeEntity {
+
+    public static final int RNO_LENGTH = 64;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 유니크는 idx_job_rno 하나로 (컬럼에 unique 를 또 달면 ddl-auto 가 인덱스를 두 개 만든다)
+    @Column(nullable = false, length = RNO_LENGTH)
+    private String rno;
+
+    @Column(length = 64)
+    private String rnum;
+
+    @Column(length = 255)
+    private String jobNm;
+
+    @Column(length = 255)
+    private String busplaName;
+
+    @Column(length = 500)
+    private String compAddr;
+
+    @Column(length = 100)
+    private String cntctNo;
+
+    @Column(length = 100)
+    private String empType;
+
+    @Column(length = 100)
+    private String enterType;
+
+    @Column(length = 100)
+    private String termDate;
+
+    @Column(length = 100)
+    private String salary;
+
+    @Column(length = 100)
+    private String salaryType;
+
+    @Column(length = 100)
+    private String reqCareer;
+
+    @Column(length = 100)
+    private String reqEduc;
+
+    @Column(length = 255)
+    private String regagnName;
+
+    @Column(length = 20)
+    private String offerregDt;
+
+    @Column(length = 20)
+    private String regDt;
+
+    // 작업환경 세부
+    @Column(length = 100) private String envBothHands;
+    @Column(length = 100) private String envEyesight;
+    @Column(length = 100) private String envHandwork;
+    @Column(length = 100) private String envLiftPower;
+    @Column(length = 100) private String envLstnTalk;
+    @Column(length = 100) private String envStndWalk;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    public JobDetailDto toDetailDto() {
+        return JobDetailDto.builder()
+                .rno(nvl(rno))
+                .rnum(nvl(rnum))
+                .jobNm(nvl(jobNm))
+                .busplaName(nvl(busplaName))
+                .compAddr(nvl(compAddr))
+                .cntctNo(nvl(cntctNo))
+                .empType(nvl(empType))
+                .enterType(nvl(enterType))
+                .termDate(nvl(termDate))
+                .salary(nvl(salary))
+                .salaryType(nvl(salaryType))
+                .reqCareer(nvl(reqCareer))
+                .reqEduc(nvl(reqEduc))
+                .regagnName(nvl(regagnName))
+                .offerregDt(nvl(offerregDt))
+                .regDt(nvl(regDt))
+                .envBothHands(nvl(envBothHands))
+                .envEyesight(nvl(envEyesight))
+                .envHandwork(nvl(envHandwork))
+                .envLiftPower(nvl(envLiftPower))
+                .envLstnTalk(nvl(envLstnTalk))
+                .envStndWalk(nvl(envStndWalk))
+                .build();
+    }
+
+    /** 외부 값을 위 컬럼 길이에 맞춰 자름 (rno 는 키라서 호출 측에서 길이 확인) */
+    public static JobDetailDto fitToColumns(JobDetailDto d) {
+        return JobDetailDto.builder()
+                .rno(d.getRno())
+                .rnum(cut(d.getRnum(), 64))
+                .jobNm(cut(d.getJobNm(), 255))
+                .busplaName(cut(d.getBusplaName(), 255))
+                .compAddr(cut(d.getCompAddr(), 500))
+                .cntctNo(cut(d.getCntctNo(), 100))
+                .empType(cut(d.getEmpType(), 100))
+                .enterType(cut(d.getEnterType(), 100))
+                .termDate(cut(d.getTermDate(), 100))
+                .salary(cut(d.getSalary(), 100))
+                .salaryType(cut(d.getSalaryType(), 100))
+                .reqCareer(cut(d.getReqCareer(), 100))
+                .reqEduc(cut(d.getReqEduc(), 100))
+                .regagnName(cut(d.getRegagnName(), 255))
+                .offerregDt(cut(d.getOfferregDt(), 20))
+                .regDt(cut(d.getRegDt(), 20))
+                .envBothHands(cut(d.getEnvBothHands(), 100))
+                .envEyesight(cut(d.getEnvEyesight(), 100))
+                .envHandwork(cut(d.getEnvHandwork(), 100))
+                .envLiftPower(cut(d.getEnvLiftPower(), 100))
+                .envLstnTalk(cut(d.getEnvLstnTalk(), 100))
+                .envStndWalk(cut(d.getEnvStndWalk(), 100))
+                .build();
+    }
+
+    private static String cut(String s, int max) {
+        return (s == null || s.length() <= max) ? s : s.substring(0, max);
+    }
+
+    private static String nvl(String s) { return s == null ? "" : s; }
+}
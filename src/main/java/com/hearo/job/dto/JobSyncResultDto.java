@@ -0,0 +1,14 @@
+package com.hearo.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class JobSyncResultDto {
+    private String mode;          // FULL / INCREMENTAL / RELOADED(다른 인스턴스 적재분 읽기) / SKIPPED
+    private int totalFetched;     // 외부 API 에서 받은 행 수
+    private int upserted;         // DB 에 반영한 행 수
+    private int removed;          // 전체 동기화 후 정리된(마감) 행 수
+    private int snapshotSize;     // 교체 후 스냅샷 크기
+}
@@ -0,0 +1,47 @@
+package com.hearo.job.job;
+
+import com.hearo.job.dto.JobSyncResultDto;
+import com.hearo.job.service.JobSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSnapshotScheduler {
+
+    private final JobSnapshotService snapshotService;
+
+    @Value("${job.snapshot.enabled:true}")
+    private boolean enabled;
+
+    // 매일 새벽 4시 전체 동기화 (마감 공고 정리 포함)
+    @Scheduled(cron = "${job.snapshot.full-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void nightlyFullSync() {
+        if (!enabled) {
+            log.info("[JobSnapshotScheduler] disabled by property. skip.");
+            return;
+        }
+        try {
+            JobSyncResultDto result = snapshotService.fullSync();
+            log.info("[JobSnapshotScheduler] full sync {}", result);
+        } catch (Exception e) {
+            log.warn("[JobSnapshotScheduler] full sync failed: {}", e.toString(), e);
+        }
+    }
+
+    // 10분마다 증분 갱신 (신규/변경 공고만)
+    @Scheduled(cron = "${job.snapshot.refresh-cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            JobSyncResultDto result = snapshotService.incrementalSync();
+            log.debug("[JobSnapshotScheduler] refresh {}", result);
+        } catch (Exception e) {
+            log.warn("[JobSnapshotScheduler] refresh failed: {}", e.toString(), e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hearo.job.repository;
+
+import com.hearo.job.dto.JobDetailDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JobPostingBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO job_postings
+          (rno, rnum, job_nm, buspla_name, comp_addr, cntct_no, emp_type, enter_type,
+           term_date, salary, salary_type, req_career, req_educ, regagn_name, offerreg_dt, reg_dt,
+           env_both_hands, env_eyesight, env_handwork, env_lift_power, env_lstn_talk, env_stnd_walk,
+           synced_at, created_at, modified_at)
+        VALUES
+          (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+          rnum = VALUES(rnum),
+          job_nm = VALUES(job_nm),
+          buspla_name = VALUES(buspla_name),
+          comp_addr = VALUES(comp_addr),
+          cntct_no = VALUES(cntct_no),
+          emp_type = VALUES(emp_type),
+          enter_type = VALUES(enter_type),
+          term_date = VALUES(term_date),
+          salary = VALUES(salary),
+          salary_type = VALUES(salary_type),
+          req_career = VALUES(req_career),
+          req_educ = VALUES(req_educ),
+          regagn_name = VALUES(regagn_name),
+          offerreg_dt = VALUES(offerreg_dt),
+          reg_dt = VALUES(reg_dt),
+          env_both_hands = VALUES(env_both_hands),
+          env_eyesight = VALUES(env_eyesight),
+          env_handwork = VALUES(env_handwork),
+          env_lift_power = VALUES(env_lift_power),
+          env_lstn_talk = VALUES(env_lstn_talk),
+          env_stnd_walk = VALUES(env_stnd_walk),
+          synced_at = VALUES(synced_at),
+          modified_at = NOW()
+        """;
+
+    /** 적재 결과 비교용 (행 수, 마지막 수정 시각) */
+    public record Stamp(long count, Timestamp lastModified) {}
+
+    public Stamp loadStamp() {
+        return jdbc.queryForObject("SELECT COUNT(*), MAX(modified_at) FROM job_postings",
+                (rs, i) -> new Stamp(rs.getLong(1), rs.getTimestamp(2)));
+    }
+
+    public int[] upsertBatch(List<JobDetailDto> items, LocalDateTime syncedAt) {
+        if (items == null || items.isEmpty()) return new int[0];
+        Timestamp ts = Timestamp.valueOf(syncedAt);
+
+        return jdbc.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                JobDetailDto d = items.get(i);
+
+                ps.setString(1,  d.getRno());
+                ps.setString(2,  d.getRnum());
+                ps.setString(3,  d.getJobNm());
+                ps.setString(4,  d.getBusplaName());
+                ps.setString(5,  d.getCompAddr());
+                ps.setString(6,  d.getCntctNo());
+                ps.setString(7,  d.getEmpType());
+                ps.setString(8,  d.getEnterType());
+                ps.setString(9,  d.getTermDate());
+                ps.setString(10, d.getSalary());
+                ps.setString(11, d.getSalaryType());
+                ps.setString(12, d.getReqCareer());
+                ps.setString(13, d.getReqEduc());
+                ps.setString(14, d.getRegagnName());
+                ps.setString(15, d.getOfferregDt());
+                ps.setString(16, d.getRegDt());
+                ps.setString(17, d.getEnvBothHands());
+                ps.setString(18, d.getEnvEyesight());
+                ps.setString(19, d.getEnvHandwork());
+                ps.setString(20, d.getEnvLiftPower());
+                ps.setString(21, d.getEnvLstnTalk());
+                ps.setString(22, d.getEnvStndWalk());
+                ps.setTimestamp(23, ts);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.hearo.job.repository;
+
+import com.hearo.job.domain.JobPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
+
+    /** 전체 동기화에서 더 이상 보이지 않은(마감/삭제된) 공고 정리 */
+    @Transactional
+    @Modifying
+    @Query("delete from JobPosting j where j.syncedAt < :before")
+    int deleteSyncedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,29 +1,35 @@
 package com.hearo.job.service;
 
+import com.hearo.global.external.ExternalCallExecutor;
+import com.hearo.global.external.RetryPolicy;
 import com.hearo.job.client.JobApiClient;
 import com.hearo.job.client.dto.JobRawResponse;
 import com.hearo.job.dto.JobDetailDto;
 import com.hearo.job.dto.JobFilter;
 import com.hearo.job.dto.JobItemDto;
 import com.hearo.job.dto.JobPageDto;
+import com.hearo.job.snapshot.JobSnapshot;
+import com.hearo.job.snapshot.JobSnapshotStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * 구인정보 비즈니스 로직 (Spring Cache + Caffeine 적용)
- * - 실시간 조회 + 서버사이드 필터 + 상세 캐시 + 재시도/백오프
+ * - 실시간 조회 + 서버사이드 필터 + 상세 캐시 + 재시도/백오프({@link ExternalCallExecutor})
+ * - 검색/상세/facet 은 로컬 스냅샷({@link JobSnapshotStore}) 우선, 스냅샷이 비어 있을 때만 외부 스캔
  */
 @Service
 @RequiredArgsConstructor
@@ -31,13 +37,20 @@ import java.util.stream.Collectors;
 public class JobService {
 
     private final JobApiClient client;
+    private final ExternalCallExecutor externalCalls;
+    private final JobSnapshotStore snapshotStore;
+
+    // 요청 스레드에서 기다리는 호출은 짧게, 백그라운드 적재는 길게
+    private static final RetryPolicy PROXY_POLICY  = RetryPolicy.of(3, 400, 8_000);
+    private static final RetryPolicy SCAN_POLICY   = RetryPolicy.of(2, 300, 5_000);
+    private static final RetryPolicy INGEST_POLICY = RetryPolicy.of(5, 500, 60_000);
 
     @Value("${job.api.default-num-of-rows:100}")
     private int defaultFetchRows;
 
     /** 1) 외부 페이지 프록시 */
     public JobPageDto externalList(int pageNo, int numOfRows) {
-        JobRawResponse raw = fetchWithRetry(pageNo, numOfRows, 6, 600);
+        JobRawResponse raw = fetch(pageNo, numOfRows, PROXY_POLICY);
         validateHeader(raw);
         return toPageDto(raw);
     }
@@ -47,6 +60,11 @@ public class JobService {
         if (page < 1) page = 1;
         if (size < 1) size = 20;
 
+        JobSnapshot snapshot = snapshotStore.current();
+        if (!snapshot.isEmpty()) {
+            return filterSnapshot(snapshot, filter, page, size);
+        }
+
         final int MAX_SCAN_PAGES = 25; // 남용 방지
         final int fetchRows = Math.max(defaultFetchRows, size);
 
@@ -60,7 +78,7 @@ public class JobService {
         int pageNo  = 1;
 
         while (bucket.size() < needTotal && scanned < MAX_SCAN_PAGES) {
-            JobRawResponse raw = fetchWithRetry(pageNo, fetchRows, 4, 400);
+            JobRawResponse raw = fetch(pageNo, fetchRows, SCAN_POLICY);
             validateHeader(raw);
 
             // 항상 null-safe: item 리스트가 null이어도 빈 리스트로 처리
@@ -96,12 +114,18 @@ public class JobService {
         if (rno == null || rno.isBlank())
             throw new IllegalArgumentException("유효한 rno가 필요합니다.");
 
+        JobSnapshot snapshot = snapshotStore.current();
+        if (!snapshot.isEmpty()) {
+            return snapshot.find(rno).orElseThrow(() ->
+                    new IllegalArgumentException("해당 구인정보를 찾을 수 없습니다. rno=" + rno));
+        }
+
         // 외부 API는 "상세" 엔드포인트가 없으므로 제한 스캔으로 조회
         final int MAX_SCAN_PAGES = 15;
         int pageNo = 1;
 
         while (pageNo <= MAX_SCAN_PAGES) {
-            JobRawResponse raw = fetchWithRetry(pageNo, defaultFetchRows, 3, 300);
+            JobRawResponse raw = fetch(pageNo, defaultFetchRows, SCAN_POLICY);
             validateHeader(raw);
 
             // null-safe
@@ -120,6 +144,39 @@ public class JobService {
         throw new IllegalArgumentException("해당 구인정보를 찾을 수 없습니다. rno=" + rno);
     }
 
+    /** 4) 필터 facet 값 — 스냅샷이 있으면 전체 기준, 없으면 첫 페이지 샘플 기준 */
+    public Map<String, Object> facets(int numOfRows) {
+        JobSnapshot snapshot = snapshotStore.current();
+        if (!snapshot.isEmpty()) return snapshot.facets();
+
+        var page = externalList(1, numOfRows);
+
+        Set<String> empTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Set<String> salaryTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Set<String> enterTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        page.getItems().forEach(i -> {
+            if (i.getEmpType() != null && !i.getEmpType().isBlank()) empTypes.add(i.getEmpType());
+            if (i.getSalaryType() != null && !i.getSalaryType().isBlank()) salaryTypes.add(i.getSalaryType());
+            if (i.getEnterType() != null && !i.getEnterType().isBlank()) enterTypes.add(i.getEnterType());
+        });
+
+        return Map.of(
+                "empTypes", empTypes,
+                "salaryTypes", salaryTypes,
+                "enterTypes", enterTypes
+        );
+    }
+
+    /** 스냅샷 적재용: 외부 한 페이지를 상세 DTO(작업환경 포함)로 변환 */
+    public List<JobDetailDto> fetchDetailPage(int pageNo, int numOfRows) {
+        JobRawResponse raw = externalCalls.await(client.fetchUncached(pageNo, numOfRows), INGEST_POLICY);
+        validateHeader(raw);
+        return safeItems(raw).stream()
+                .map(i -> toDetail(mapToItem(i), i))
+                .toList();
+    }
+
     /** 캐시 비우기 — 관리용 */
     @CacheEvict(value = "jobDetail", allEntries = true)
     public void evictAllDetailCache() {
@@ -128,21 +185,24 @@ public class JobService {
 
     /* ================= 내부 헬퍼 ================= */
 
-    private JobRawResponse fetchWithRetry(int pageNo, int numOfRows, int maxRetry, long baseBackoffMs) {
-        int attempt = 0;
-        while (true) {
-            try {
-                return client.fetch(pageNo, numOfRows);
-            } catch (RuntimeException ex) {
-                attempt++;
-                if (attempt > maxRetry || !isTransient(ex)) throw ex;
-                long sleep = (long) (baseBackoffMs * Math.pow(1.6, attempt - 1));
-                if (isTooManyRequests(ex)) sleep += 2000L;
-                log.warn("[JobService] transient err={}, attempt={}, sleep={}ms", rootName(ex), attempt, sleep);
-                try { Thread.sleep(sleep); }
-                catch (InterruptedException ie) { Thread.currentThread().interrupt(); throw ex; }
-            }
-        }
+    private JobPageDto filterSnapshot(JobSnapshot snapshot, JobFilter filter, int page, int size) {
+        long offset = (long) (page - 1) * size;
+        var result = snapshot.search(filter, (int) Math.min(offset, Integer.MAX_VALUE), size);
+
+        List<JobItemDto> pageItems = result.items().stream()
+                .map(JobService::toItem)
+                .collect(Collectors.toList());
+
+        return JobPageDto.builder()
+                .pageNo(page)
+                .numOfRows(size)
+                .totalCount(result.totalCount())
+                .items(pageItems)
+                .build();
+    }
+
+    private JobRawResponse fetch(int pageNo, int numOfRows, RetryPolicy policy) {
+        return externalCalls.await(client.fetch(pageNo, numOfRows), policy);
     }
 
     private void validateHeader(JobRawResponse raw) {
@@ -260,31 +320,6 @@ public class JobService {
 
     private static int nz(Integer v, int def) { return v == null ? def : v; }
 
-    private static boolean isTransient(Throwable t) {
-        if (t instanceof WebClientRequestException) return true;
-        if (t instanceof WebClientResponseException w) {
-            int s = w.getStatusCode().value();
-            return s == 429 || s == 502 || s == 503 || s == 504;
-        }
-        Throwable c = t.getCause();
-        while (c != null) {
-            if (c instanceof java.net.SocketTimeoutException
-                    || c instanceof io.netty.handler.timeout.ReadTimeoutException) return true;
-            c = c.getCause();
-        }
-        return false;
-    }
-
-    private static boolean isTooManyRequests(Throwable t) {
-        return (t instanceof WebClientResponseException w) && w.getStatusCode().value() == 429;
-    }
-
-    private static String rootName(Throwable t) {
-        Throwable c = t;
-        while (c.getCause() != null) c = c.getCause();
-        return c.getClass().getSimpleName();
-    }
-
     /** 지역 포함 매칭: 공백으로 분할된 토큰을 모두 주소에 포함하면 true */
     private static boolean containsRegion(String compAddr, String region) {
         if (region == null || region.isBlank()) return true;
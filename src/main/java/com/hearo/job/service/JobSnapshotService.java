@@ -0,0 +1,198 @@
+package com.hearo.job.service;
+
+import com.hearo.global.lock.DbLock;
+import com.hearo.job.domain.JobPosting;
+import com.hearo.job.dto.JobDetailDto;
+import com.hearo.job.dto.JobSyncResultDto;
+import com.hearo.job.repository.JobPostingBulkRepository;
+import com.hearo.job.repository.JobPostingRepository;
+import com.hearo.job.snapshot.JobSnapshot;
+import com.hearo.job.snapshot.JobSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 구인정보 스냅샷 적재
+ * - 전체 동기화: 외부 목록 전 페이지 upsert → 보이지 않은 공고 정리 → DB 기준 스냅샷 재구성
+ * - 증분 갱신: 앞 페이지부터 변경분만 upsert, 변경 없는 페이지를 만나면 중단 → 스냅샷에 병합
+ * - 외부 API 호출은 DB 락(job-snapshot-sync)을 잡은 인스턴스 하나만, 나머지는 DB 가 바뀌었을 때 다시 읽기만 한다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSnapshotService {
+
+    private final JobService jobService;
+    private final JobPostingBulkRepository bulkRepo;
+    private final JobPostingRepository repo;
+    private final JobSnapshotStore store;
+
+    private final DbLock dbLock;
+
+    private static final String SYNC_LOCK = "job-snapshot-sync";
+
+    // 전체/증분이 겹쳐 돌지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 이 인스턴스 스냅샷이 반영한 DB 상태 (다른 인스턴스가 적재한 결과를 따라잡을 때 비교)
+    private volatile JobPostingBulkRepository.Stamp seenStamp;
+
+    @Value("${job.snapshot.page-size:500}")
+    private int pageSize;
+
+    @Value("${job.snapshot.max-pages:200}")
+    private int maxPages;
+
+    @Value("${job.snapshot.incremental-max-pages:5}")
+    private int incrementalMaxPages;
+
+    /** 전체 동기화 */
+    public JobSyncResultDto fullSync() {
+        if (!lock.tryLock()) {
+            log.info("[JobSnapshot] another sync is running. skip full sync.");
+            return skipped();
+        }
+        try {
+            return dbLock.tryRun(SYNC_LOCK, this::doFullSync).orElseGet(() -> {
+                log.info("[JobSnapshot] another instance is syncing. skip full sync.");
+                return skipped();
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 증분 갱신 (스냅샷이 비어 있으면 전체 동기화로 대체) */
+    public JobSyncResultDto incrementalSync() {
+        if (!lock.tryLock()) {
+            log.info("[JobSnapshot] another sync is running. skip incremental sync.");
+            return skipped();
+        }
+        try {
+            return dbLock.tryRun(SYNC_LOCK, () -> store.current().isEmpty() ? doFullSync() : doIncrementalSync())
+                    .orElseGet(this::followDb);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* ================= 내부 구현 ================= */
+
+    private JobSyncResultDto doFullSync() {
+        // DATETIME(초 단위) 반올림으로 이번 회차 행이 정리 대상이 되지 않도록 초 단위로 절삭
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int fetched = 0;
+        boolean complete = false;
+
+        log.info("[JobSnapshot] full sync start pageSize={}", pageSize);
+
+        for (int pageNo = 1; pageNo <= maxPages; pageNo++) {
+            List<JobDetailDto> items;
+            try {
+                items = jobService.fetchDetailPage(pageNo, pageSize);
+            } catch (RuntimeException e) {
+                log.warn("[JobSnapshot] full sync aborted at pageNo={} (reason={})", pageNo, e.toString());
+                break;
+            }
+
+            List<JobDetailDto> keyed = withRno(items);
+            if (!keyed.isEmpty()) {
+                bulkRepo.upsertBatch(keyed, startedAt);
+                fetched += keyed.size();
+            }
+            if (items.size() < pageSize) {
+                complete = true;
+                break;
+            }
+        }
+
+        // 끝까지 훑은 경우에만 이번 회차에 보이지 않은 공고 정리 (중간 실패 시 기존 데이터 보존)
+        int removed = complete ? repo.deleteSyncedBefore(startedAt) : 0;
+
+        JobSnapshot next = store.reloadFromDb();
+        seenStamp = bulkRepo.loadStamp();
+        jobService.evictAllDetailCache();
+
+        log.info("[JobSnapshot] full sync done fetched={} removed={} complete={} snapshot={}",
+                fetched, removed, complete, next.size());
+        return new JobSyncResultDto("FULL", fetched, fetched, removed, next.size());
+    }
+
+    private JobSyncResultDto doIncrementalSync() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        JobSnapshot current = store.current();
+        List<JobDetailDto> changed = new ArrayList<>();
+        int fetched = 0;
+
+        for (int pageNo = 1; pageNo <= incrementalMaxPages; pageNo++) {
+            List<JobDetailDto> items;
+            try {
+                items = jobService.fetchDetailPage(pageNo, pageSize);
+            } catch (RuntimeException e) {
+                log.warn("[JobSnapshot] incremental sync stop at pageNo={} (reason={})", pageNo, e.toString());
+                break;
+            }
+            fetched += items.size();
+
+            List<JobDetailDto> pageChanged = withRno(items).stream()
+                    .filter(d -> !current.find(d.getRno()).map(d::equals).orElse(false))
+                    .toList();
+
+            if (!pageChanged.isEmpty()) {
+                bulkRepo.upsertBatch(pageChanged, now);
+                changed.addAll(pageChanged);
+            }
+            // 변경 없는 페이지 = 이미 따라잡음
+            if (pageChanged.isEmpty() || items.size() < pageSize) break;
+        }
+
+        JobSnapshot next = current.withUpserts(changed, LocalDateTime.now());
+        if (next != current) {
+            store.swap(next);
+            jobService.evictAllDetailCache();
+        }
+        seenStamp = bulkRepo.loadStamp();
+
+        log.info("[JobSnapshot] incremental sync done fetched={} changed={} snapshot={}",
+                fetched, changed.size(), next.size());
+        return new JobSyncResultDto("INCREMENTAL", fetched, changed.size(), 0, next.size());
+    }
+
+    /** 다른 인스턴스가 적재 중(또는 적재를 마침): DB 가 바뀌었으면 스냅샷만 다시 읽음 */
+    private JobSyncResultDto followDb() {
+        JobPostingBulkRepository.Stamp stamp = bulkRepo.loadStamp();
+        if (stamp.equals(seenStamp)) return skipped();
+        JobSnapshot next = store.reloadFromDb();
+        seenStamp = stamp;
+        jobService.evictAllDetailCache();
+        return new JobSyncResultDto("RELOADED", 0, 0, 0, next.size());
+    }
+
+    /**
+     * upsert 할 수 있는 공고만, 컬럼 길이에 맞춰 자른 값으로
+     * - rno 가 비었거나 컬럼보다 길면 키가 겹칠 수 있으므로 제외
+     * - 나머지 필드는 잘라서 한 건 때문에 배치 전체가 실패하지 않게 (비교도 잘린 값 기준이라 매번 변경으로 보이지 않음)
+     */
+    private static List<JobDetailDto> withRno(List<JobDetailDto> items) {
+        List<JobDetailDto> out = items.stream()
+                .filter(d -> d.getRno() != null && !d.getRno().isBlank() && d.getRno().length() <= JobPosting.RNO_LENGTH)
+                .map(JobPosting::fitToColumns)
+                .toList();
+        if (out.size() < items.size()) {
+            log.warn("[JobSnapshot] skipped {} item(s) without valid rno", items.size() - out.size());
+        }
+        return out;
+    }
+
+    private JobSyncResultDto skipped() {
+        return new JobSyncResultDto("SKIPPED", 0, 0, 0, store.current().size());
+    }
+}
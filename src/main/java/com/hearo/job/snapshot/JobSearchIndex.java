@@ -0,0 +1,227 @@
+package com.hearo.job.snapshot;
+
+import com.hearo.job.dto.JobDetailDto;
+import com.hearo.job.dto.JobFilter;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 구인정보 검색 인덱스 (스냅샷과 함께 생성되는 불변 구조)
+ * - keyword(jobNm/busplaName/compAddr), region(compAddr): 공백 토큰 단위 unigram + bigram 역색인
+ *   → 질의 토큰의 bigram(1글자 토큰은 unigram) posting 교집합으로 후보를 좁힌 뒤,
+ *     미리 소문자화해 둔 필드로 기존 contains 의미 그대로 최종 확인
+ * - 고용/임금/입사형태, 작업환경 6종: 값 사전 + 값별 BitSet → 필터는 BitSet AND 로 처리
+ * 문서 번호는 스냅샷 정렬 순서(최신순)이므로 BitSet 순회 결과가 곧 응답 순서가 된다.
+ */
+final class JobSearchIndex {
+
+    /** 정확히 일치(대소문자 무시)로 거르는 필드 */
+    private enum Facet {
+        EMP_TYPE(JobDetailDto::getEmpType, JobFilter::getEmpType),
+        SALARY_TYPE(JobDetailDto::getSalaryType, JobFilter::getSalaryType),
+        ENTER_TYPE(JobDetailDto::getEnterType, JobFilter::getEnterType),
+        ENV_BOTH_HANDS(JobDetailDto::getEnvBothHands, JobFilter::getEnvBothHands),
+        ENV_EYESIGHT(JobDetailDto::getEnvEyesight, JobFilter::getEnvEyesight),
+        ENV_HANDWORK(JobDetailDto::getEnvHandwork, JobFilter::getEnvHandwork),
+        ENV_LIFT_POWER(JobDetailDto::getEnvLiftPower, JobFilter::getEnvLiftPower),
+        ENV_LSTN_TALK(JobDetailDto::getEnvLstnTalk, JobFilter::getEnvLstnTalk),
+        ENV_STND_WALK(JobDetailDto::getEnvStndWalk, JobFilter::getEnvStndWalk);
+
+        private final Function<JobDetailDto, String> docValue;
+        private final Function<JobFilter, String> filterValue;
+
+        Facet(Function<JobDetailDto, String> docValue, Function<JobFilter, String> filterValue) {
+            this.docValue = docValue;
+            this.filterValue = filterValue;
+        }
+    }
+
+    private static final JobSnapshot.SearchResult NO_MATCH = new JobSnapshot.SearchResult(0, List.of());
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final List<JobDetailDto> docs;
+
+    // 미리 소문자화한 필드 (최종 contains 확인용)
+    private final String[] jobNmLc;
+    private final String[] busplaNameLc;
+    private final String[] compAddrLc;
+
+    private final Map<String, int[]> keywordPostings;
+    private final Map<String, int[]> addrPostings;
+    private final EnumMap<Facet, FieldDictionary> dictionaries = new EnumMap<>(Facet.class);
+
+    JobSearchIndex(List<JobDetailDto> docs) {
+        this.docs = docs;
+        int n = docs.size();
+        this.jobNmLc = new String[n];
+        this.busplaNameLc = new String[n];
+        this.compAddrLc = new String[n];
+
+        Map<String, PostingBuilder> keyword = new HashMap<>();
+        Map<String, PostingBuilder> addr = new HashMap<>();
+        for (Facet f : Facet.values()) dictionaries.put(f, new FieldDictionary());
+
+        for (int doc = 0; doc < n; doc++) {
+            JobDetailDto d = docs.get(doc);
+            jobNmLc[doc] = lower(d.getJobNm());
+            busplaNameLc[doc] = lower(d.getBusplaName());
+            compAddrLc[doc] = lower(d.getCompAddr());
+
+            addGrams(keyword, jobNmLc[doc], doc);
+            addGrams(keyword, busplaNameLc[doc], doc);
+            addGrams(keyword, compAddrLc[doc], doc);
+            addGrams(addr, compAddrLc[doc], doc);
+
+            for (Facet f : Facet.values()) dictionaries.get(f).add(f.docValue.apply(d), doc);
+        }
+
+        this.keywordPostings = freeze(keyword);
+        this.addrPostings = freeze(addr);
+    }
+
+    /** 필터 적용 후 [offset, offset+limit) 구간과 전체 매칭 수 반환 */
+    JobSnapshot.SearchResult search(JobFilter filter, int offset, int limit) {
+        int n = docs.size();
+        BitSet candidates = new BitSet(n);
+        candidates.set(0, n);
+
+        String keyword = null;
+        String[] regionTokens = new String[0];
+
+        if (filter != null) {
+            for (Facet f : Facet.values()) {
+                String expect = f.filterValue.apply(filter);
+                if (expect == null || expect.isBlank()) continue;
+                BitSet bs = dictionaries.get(f).get(expect.trim());
+                if (bs == null) return NO_MATCH;
+                candidates.and(bs);
+            }
+
+            if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+                keyword = lower(filter.getKeyword().trim());
+                narrow(candidates, keywordPostings, keyword);
+            }
+
+            if (filter.getRegion() != null && !filter.getRegion().isBlank()) {
+                regionTokens = lower(filter.getRegion().trim()).split("\\s+");
+                for (String t : regionTokens) narrow(candidates, addrPostings, t);
+            }
+        }
+
+        int total = 0;
+        List<JobDetailDto> page = new ArrayList<>(Math.max(0, Math.min(limit, candidates.cardinality())));
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            if (!verify(doc, keyword, regionTokens)) continue;
+            if (total >= offset && page.size() < limit) page.add(docs.get(doc));
+            total++;
+        }
+        return new JobSnapshot.SearchResult(total, page);
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    /** bigram 후보는 상위집합이므로 기존 검색과 동일한 contains 조건으로 최종 확인 */
+    private boolean verify(int doc, String keyword, String[] regionTokens) {
+        if (keyword != null
+                && !jobNmLc[doc].contains(keyword)
+                && !busplaNameLc[doc].contains(keyword)
+                && !compAddrLc[doc].contains(keyword)) return false;
+
+        for (String t : regionTokens) {
+            if (!t.isBlank() && !compAddrLc[doc].contains(t)) return false;
+        }
+        return true;
+    }
+
+    /** 질의 문자열의 모든 gram posting 과 교집합 */
+    private static void narrow(BitSet candidates, Map<String, int[]> postings, String text) {
+        for (String gram : queryGrams(text)) {
+            if (candidates.isEmpty()) return;
+            int[] p = postings.getOrDefault(gram, NO_POSTINGS);
+            BitSet hit = new BitSet();
+            for (int doc : p) hit.set(doc);
+            candidates.and(hit);
+        }
+    }
+
+    private static void addGrams(Map<String, PostingBuilder> postings, String text, int doc) {
+        for (String gram : docGrams(text)) {
+            postings.computeIfAbsent(gram, k -> new PostingBuilder()).add(doc);
+        }
+    }
+
+    /**
+     * 색인 gram: 공백 토큰마다 모든 글자(unigram) + bigram
+     * - 1글자 질의("강")나 토큰 경계를 걸친 질의("울 강")도 후보에서 빠지지 않도록
+     */
+    static Set<String> docGrams(String text) {
+        Set<String> out = new HashSet<>();
+        for (String token : tokens(text)) {
+            for (int i = 0; i < token.length(); i++) out.add(token.substring(i, i + 1));
+            for (int i = 0; i + 2 <= token.length(); i++) out.add(token.substring(i, i + 2));
+        }
+        return out;
+    }
+
+    /** 질의 gram: 공백 토큰별 bigram (1글자 토큰은 그대로) */
+    static Set<String> queryGrams(String text) {
+        Set<String> out = new HashSet<>();
+        for (String token : tokens(text)) {
+            if (token.length() == 1) {
+                out.add(token);
+                continue;
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) out.add(token.substring(i, i + 2));
+        }
+        return out;
+    }
+
+    private static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        return Arrays.stream(text.trim().split("\\s+")).filter(t -> !t.isEmpty()).toList();
+    }
+
+    private static Map<String, int[]> freeze(Map<String, PostingBuilder> builders) {
+        Map<String, int[]> out = new HashMap<>(builders.size() * 2);
+        builders.forEach((gram, b) -> out.put(gram, b.toArray()));
+        return out;
+    }
+
+    private static String lower(String s) {
+        return (s == null) ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    /** 문서 번호 오름차순으로만 추가되므로 마지막 값만 비교해 중복 제거 */
+    private static final class PostingBuilder {
+        private int[] buf = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && buf[size - 1] == doc) return;
+            if (size == buf.length) buf = Arrays.copyOf(buf, size * 2);
+            buf[size++] = doc;
+        }
+
+        int[] toArray() { return Arrays.copyOf(buf, size); }
+    }
+
+    /** 값 → 코드 사전 + 코드별 문서 BitSet (대소문자 무시) */
+    private static final class FieldDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<BitSet> bitsets = new ArrayList<>();
+
+        void add(String value, int doc) {
+            int code = codes.computeIfAbsent(lower(value), k -> {
+                bitsets.add(new BitSet());
+                return bitsets.size() - 1;
+            });
+            bitsets.get(code).set(doc);
+        }
+
+        BitSet get(String value) {
+            Integer code = codes.get(lower(value));
+            return (code == null) ? null : bitsets.get(code);
+        }
+    }
+}
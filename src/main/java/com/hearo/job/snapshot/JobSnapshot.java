@@ -0,0 +1,110 @@
+package com.hearo.job.snapshot;
+
+import com.hearo.job.dto.JobDetailDto;
+import com.hearo.job.dto.JobFilter;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 구인정보 인메모리 스냅샷 (불변)
+ * - 등록일 최신순으로 정렬된 전체 목록 + rno/rnum 조회 맵 + 드롭다운용 facet 값 + 검색 인덱스
+ * - 갱신 시에는 새 인스턴스를 만들어 {@link JobSnapshotStore}에서 통째로 교체한다
+ */
+public final class JobSnapshot {
+
+    public static final JobSnapshot EMPTY = new JobSnapshot(List.of(), null);
+
+    /** 등록일 내림차순, 같으면 rno(숫자 문자열) 내림차순 */
+    private static final Comparator<JobDetailDto> NEWEST_FIRST =
+            Comparator.comparing(JobDetailDto::getRegDt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(JobDetailDto::getRno, JobSnapshot::compareRnoDesc);
+
+    private final List<JobDetailDto> items;
+    private final Map<String, JobDetailDto> byRno;
+    private final Map<String, Object> facets;
+    private final JobSearchIndex index;
+    private final LocalDateTime builtAt;
+
+    private JobSnapshot(List<JobDetailDto> sorted, LocalDateTime builtAt) {
+        this.items = List.copyOf(sorted);
+        this.builtAt = builtAt;
+
+        Map<String, JobDetailDto> map = new HashMap<>(sorted.size() * 2);
+        for (JobDetailDto d : sorted) {
+            if (d.getRno() != null && !d.getRno().isBlank()) map.put(d.getRno(), d);
+        }
+        // rnum 으로도 조회 가능 (rno 와 충돌하면 rno 우선)
+        for (JobDetailDto d : sorted) {
+            if (d.getRnum() != null && !d.getRnum().isBlank()) map.putIfAbsent(d.getRnum(), d);
+        }
+        this.byRno = Collections.unmodifiableMap(map);
+        this.facets = buildFacets(sorted);
+        this.index = new JobSearchIndex(this.items);
+    }
+
+    public static JobSnapshot of(Collection<JobDetailDto> items, LocalDateTime builtAt) {
+        List<JobDetailDto> sorted = new ArrayList<>(items);
+        sorted.sort(NEWEST_FIRST);
+        return new JobSnapshot(sorted, builtAt);
+    }
+
+    /** 변경분(rno 기준)을 반영한 새 스냅샷 생성 — 기존 인스턴스는 그대로 유지 */
+    public JobSnapshot withUpserts(List<JobDetailDto> changed, LocalDateTime builtAt) {
+        if (changed == null || changed.isEmpty()) return this;
+        Map<String, JobDetailDto> merged = new LinkedHashMap<>(items.size() + changed.size());
+        for (JobDetailDto d : items) merged.put(d.getRno(), d);
+        for (JobDetailDto d : changed) merged.put(d.getRno(), d);
+        return of(merged.values(), builtAt);
+    }
+
+    public boolean isEmpty() { return items.isEmpty(); }
+
+    public int size() { return items.size(); }
+
+    public List<JobDetailDto> items() { return items; }
+
+    public Optional<JobDetailDto> find(String rnoOrRnum) {
+        if (rnoOrRnum == null) return Optional.empty();
+        return Optional.ofNullable(byRno.get(rnoOrRnum));
+    }
+
+    public Map<String, Object> facets() { return facets; }
+
+    /** 인덱스 기반 필터 검색 — 매칭된 행만 순회하므로 결과 크기에 비례 */
+    public SearchResult search(JobFilter filter, int offset, int limit) {
+        return index.search(filter, Math.max(offset, 0), Math.max(limit, 0));
+    }
+
+    public LocalDateTime builtAt() { return builtAt; }
+
+    public record SearchResult(int totalCount, List<JobDetailDto> items) {}
+
+    /* ================= 내부 헬퍼 ================= */
+
+    private static Map<String, Object> buildFacets(List<JobDetailDto> items) {
+        Set<String> empTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Set<String> salaryTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Set<String> enterTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (JobDetailDto i : items) {
+            if (i.getEmpType() != null && !i.getEmpType().isBlank()) empTypes.add(i.getEmpType());
+            if (i.getSalaryType() != null && !i.getSalaryType().isBlank()) salaryTypes.add(i.getSalaryType());
+            if (i.getEnterType() != null && !i.getEnterType().isBlank()) enterTypes.add(i.getEnterType());
+        }
+
+        return Map.of(
+                "empTypes", Collections.unmodifiableSet(empTypes),
+                "salaryTypes", Collections.unmodifiableSet(salaryTypes),
+                "enterTypes", Collections.unmodifiableSet(enterTypes)
+        );
+    }
+
+    private static int compareRnoDesc(String a, String b) {
+        String x = (a == null) ? "" : a;
+        String y = (b == null) ? "" : b;
+        // 숫자 문자열이므로 길이 우선 비교 후 사전순
+        if (x.length() != y.length()) return Integer.compare(y.length(), x.length());
+        return y.compareTo(x);
+    }
+}
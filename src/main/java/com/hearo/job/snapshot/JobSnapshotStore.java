@@ -0,0 +1,54 @@
+package com.hearo.job.snapshot;
+
+import com.hearo.job.domain.JobPosting;
+import com.hearo.job.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 서비스 중인 구인정보 스냅샷 보관소
+ * - 읽기: 락 없이 current() 참조만 가져감
+ * - 쓰기: 새 스냅샷을 만든 뒤 swap() 으로 원자적 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSnapshotStore {
+
+    private final JobPostingRepository repo;
+
+    private final AtomicReference<JobSnapshot> current = new AtomicReference<>(JobSnapshot.EMPTY);
+
+    public JobSnapshot current() {
+        return current.get();
+    }
+
+    public void swap(JobSnapshot next) {
+        current.set(next == null ? JobSnapshot.EMPTY : next);
+    }
+
+    /** DB(job_postings) 전체를 다시 읽어 스냅샷 교체 */
+    public JobSnapshot reloadFromDb() {
+        var rows = repo.findAll();
+        JobSnapshot next = JobSnapshot.of(rows.stream().map(JobPosting::toDetailDto).toList(), LocalDateTime.now());
+        swap(next);
+        log.info("[JobSnapshotStore] reloaded from db. size={}", next.size());
+        return next;
+    }
+
+    /** 재기동 시 외부 API 를 기다리지 않도록 마지막 적재본으로 바로 서비스 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reloadFromDb();
+        } catch (Exception e) {
+            log.warn("[JobSnapshotStore] initial load failed: {}", e.toString());
+        }
+    }
+}
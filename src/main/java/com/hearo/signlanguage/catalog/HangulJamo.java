@@ -0,0 +1,76 @@
+package com.hearo.signlanguage.catalog;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해/초성 추출 (자동완성용)
+ * - 완성형 음절은 호환 자모로 풀고, 겹모음/겹받침은 입력 순서대로 한 번 더 푼다 ("닭" → ㄷㅏㄹㄱ)
+ *   → 타이핑 중인 "달" 도 "닭" 의 접두가 된다
+ * - 한글이 아닌 문자는 그대로 둔다
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 입력기에서 단독으로 들어오는 겹자모 */
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {}
+
+    /** "사랑" → "ㅅㅏㄹㅏㅇ" */
+    static String decompose(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BASE;
+                sb.append(CHOSUNG.charAt(code / 588))
+                  .append(JUNGSUNG[(code % 588) / 28])
+                  .append(JONGSUNG[code % 28]);
+            } else {
+                sb.append(COMPOUND.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** "사랑 하다" → "ㅅㄹ ㅎㄷ" */
+    static String chosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            sb.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BASE) / 588) : c);
+        }
+        return sb.toString();
+    }
+
+    /** 초성 자음으로만 이루어진 입력인지 ("ㅅㄹ") */
+    static boolean isChosungOnly(String s) {
+        if (s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (CHOSUNG.indexOf(s.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
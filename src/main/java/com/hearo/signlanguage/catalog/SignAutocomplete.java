@@ -0,0 +1,40 @@
+package com.hearo.signlanguage.catalog;
+
+import com.hearo.signlanguage.service.SignFavoriteCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 수어 제목 자동완성 (키 입력마다 호출, DB 접근 없음)
+ * - 카탈로그가 교체될 때마다 즐겨찾기 수 → 조회수 → 최신순으로 순위를 매겨 trie 를 다시 만든다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignAutocomplete {
+
+    private final SignFavoriteCounter favoriteCounter;
+
+    private final AtomicReference<SignTitleTrie> current = new AtomicReference<>(SignTitleTrie.EMPTY);
+
+    public List<SignCatalogEntry> suggest(String query, int limit) {
+        if (query == null) return List.of();
+        return current.get().suggest(query, Math.min(limit, SignTitleTrie.MAX_K));
+    }
+
+    void rebuild(SignCatalogSnapshot snapshot) {
+        List<SignCatalogEntry> ranked = new ArrayList<>(snapshot.entries());
+        ranked.sort(Comparator
+                .comparingLong((SignCatalogEntry e) -> favoriteCounter.count(e.id())).reversed()
+                .thenComparing(e -> e.viewCount() == null ? 0 : e.viewCount(), Comparator.reverseOrder())
+                .thenComparing(SignCatalogEntry::id, Comparator.reverseOrder()));
+
+        SignTitleTrie next = new SignTitleTrie(ranked);
+        current.set(next);
+        log.info("[SignAutocomplete] rebuilt. size={}", next.size());
+    }
+}
@@ -0,0 +1,97 @@
+package com.hearo.signlanguage.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오프라인 앱용 수어 사전 전체 번들 (카탈로그가 교체될 때마다 다시 만듦)
+ * - 형식: GZIP( "HSB1" | int 형식버전 | long 데이터셋버전 | int 건수 | 행 × 건수 )
+ * - 행: long id | long version | str localId, title, videoUrl, thumbnailUrl, signDescription,
+ *        imagesCsv, sourceUrl, collectionDb, categoryType | int viewCount(null 이면 -1)
+ * - str: int 바이트 길이(null 이면 -1) + UTF-8 바이트 (설명이 64KB 를 넘을 수 있어 writeUTF 대신)
+ * - 받은 뒤에는 /changes?since=데이터셋버전 으로 증분만 받는다
+ */
+@Component
+@Slf4j
+public class SignBundle {
+
+    private static final byte[] MAGIC = "HSB1".getBytes(StandardCharsets.US_ASCII);
+    private static final int FORMAT_VERSION = 1;
+
+    /** 만들어진 번들 한 벌 (bytes 는 공유하므로 수정 금지) */
+    public record Bundle(byte[] bytes, String etag, long version, int count, LocalDateTime builtAt) {}
+
+    private final AtomicReference<Bundle> current = new AtomicReference<>();
+
+    public Optional<Bundle> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public Bundle rebuild(SignCatalogSnapshot snapshot) {
+        Bundle next = encode(snapshot);
+        current.set(next);
+        log.info("[SignBundle] rebuilt. version={} count={} bytes={}", next.version(), next.count(), next.bytes().length);
+        return next;
+    }
+
+    private static Bundle encode(SignCatalogSnapshot snapshot) {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(Math.max(snapshot.size() * 256, 1024));
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(buf))) {
+            out.write(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshot.version());
+            out.writeInt(snapshot.size());
+            for (SignCatalogEntry e : snapshot.entries()) {
+                out.writeLong(e.id());
+                out.writeLong(e.version());
+                writeString(out, e.localId());
+                writeString(out, e.title());
+                writeString(out, e.videoUrl());
+                writeString(out, e.thumbnailUrl());
+                writeString(out, e.signDescription());
+                writeString(out, e.imagesCsv());
+                writeString(out, e.sourceUrl());
+                writeString(out, e.collectionDb());
+                writeString(out, e.categoryType());
+                out.writeInt(e.viewCount() == null ? -1 : e.viewCount());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = buf.toByteArray();
+        return new Bundle(bytes, etagOf(snapshot.version(), bytes), snapshot.version(), snapshot.size(), LocalDateTime.now());
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    /** 버전 + 내용 해시 앞 16자리 (같은 버전이라도 내용이 다르면 다른 ETag) */
+    private static String etagOf(long version, byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"v" + version + "-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
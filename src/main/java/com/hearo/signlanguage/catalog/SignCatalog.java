@@ -0,0 +1,110 @@
+package com.hearo.signlanguage.catalog;
+
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import com.hearo.signlanguage.repository.SignEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 서비스 중인 수어 카탈로그
+ * - 읽기: 락 없이 current() 참조만 가져감 (목록/검색/상세에서 DB 접근 없음)
+ * - 쓰기: 수집이 끝나면 바뀐 행만 다시 읽어 새 스냅샷으로 원자적 교체 (기동 시에는 전체 적재)
+ * - 교체할 때마다 자동완성/오프라인 번들도 새 스냅샷으로 다시 만듦
+ * - 수집하지 않은 인스턴스도 주기적으로 DB 의 (최대 row_version, 건수)를 보고 달라졌으면
+ *   현재 버전보다 새 행만 다시 읽어 반영 (건수가 안 맞으면 = 삭제 등 → 전체 적재)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignCatalog {
+
+    private static final int LOAD_CHUNK = 1000; // IN 절 크기 제한
+
+    private final SignEntryRepository repo;
+    private final SignEntryBulkRepository bulkRepo;
+    private final SignAutocomplete autocomplete;
+    private final SignBundle bundle;
+
+    private final AtomicReference<SignCatalogSnapshot> current = new AtomicReference<>(SignCatalogSnapshot.EMPTY);
+
+    public SignCatalogSnapshot current() {
+        return current.get();
+    }
+
+    /** DB(sign_entries) 전체를 다시 읽어 스냅샷 교체 */
+    public synchronized SignCatalogSnapshot reload() {
+        var rows = repo.findAll();
+        SignCatalogSnapshot next = SignCatalogSnapshot.of(
+                rows.stream().map(SignCatalogEntry::from).toList(), LocalDateTime.now());
+        current.set(next);
+        autocomplete.rebuild(next);
+        rebuildBundle(next);
+        log.info("[SignCatalog] reloaded. size={}", next.size());
+        return next;
+    }
+
+    /** 수집에서 바뀐 localId 만 다시 읽어 반영 */
+    public synchronized SignCatalogSnapshot applyUpserts(Collection<String> localIds) {
+        if (localIds.isEmpty()) return current.get();
+        List<SignCatalogEntry> changed = new ArrayList<>(localIds.size());
+        List<String> ids = new ArrayList<>(localIds);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+            var rows = repo.findAllByLocalIdIn(ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size())));
+            rows.forEach(r -> changed.add(SignCatalogEntry.from(r)));
+        }
+        SignCatalogSnapshot next = current.get().withUpserts(changed, LocalDateTime.now());
+        current.set(next);
+        autocomplete.rebuild(next);
+        rebuildBundle(next);
+        log.info("[SignCatalog] upserts applied. changed={} size={}", changed.size(), next.size());
+        return next;
+    }
+
+    /** 번들 생성 실패는 이전 번들을 유지 (카탈로그 교체는 그대로) */
+    private void rebuildBundle(SignCatalogSnapshot next) {
+        try {
+            bundle.rebuild(next);
+        } catch (Exception e) {
+            log.warn("[SignCatalog] bundle rebuild failed, keep previous: {}", e.toString());
+        }
+    }
+
+    /** 다른 인스턴스의 수집 결과 반영 (버전/건수가 그대로면 아무것도 안 함) */
+    @Scheduled(fixedDelayString = "${sign.catalog.sync-check-ms:60000}",
+            initialDelayString = "${sign.catalog.sync-check-ms:60000}")
+    public void reloadIfChanged() {
+        try {
+            SignEntryBulkRepository.CatalogStamp stamp = bulkRepo.loadCatalogStamp();
+            SignCatalogSnapshot snap = current.get();
+            if (stamp.maxRowVersion() == snap.version() && stamp.count() == snap.size()) return;
+            log.info("[SignCatalog] db changed (version {} -> {}, size {} -> {}).",
+                    snap.version(), stamp.maxRowVersion(), snap.size(), stamp.count());
+            if (!snap.isEmpty() && stamp.maxRowVersion() > snap.version()) {
+                SignCatalogSnapshot next = applyUpserts(bulkRepo.loadLocalIdsChangedAfter(snap.version()));
+                if (next.size() == stamp.count()) return;
+            }
+            reload();
+        } catch (Exception e) {
+            log.warn("[SignCatalog] sync check failed, keep current snapshot: {}", e.toString());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("[SignCatalog] initial load failed: {}", e.toString());
+        }
+    }
+}
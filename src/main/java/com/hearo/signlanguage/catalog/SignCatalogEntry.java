@@ -0,0 +1,71 @@
+package com.hearo.signlanguage.catalog;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hearo.signlanguage.domain.SignEntry;
+import com.hearo.signlanguage.dto.SignSummary;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 수어 카탈로그 한 건 (불변)
+ * - 목록 응답 필드는 SignEntry 와 동일하게 유지하고, 이미지 목록은 미리 분리해 둔다
+ * - version: 마지막으로 내용이 바뀐 수집 버전 (증분 동기화용)
+ */
+public record SignCatalogEntry(
+        Long id,
+        String localId,
+        String title,
+        String videoUrl,
+        String thumbnailUrl,
+        String signDescription,
+        String imagesCsv,
+        List<String> images,
+        String sourceUrl,
+        String collectionDb,
+        String categoryType,
+        Integer viewCount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdAt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime modifiedAt,
+        long version
+) {
+
+    public SignSummary summary() {
+        return new SignSummary(id, localId, title, thumbnailUrl, categoryType);
+    }
+
+    public static SignCatalogEntry from(SignEntry e) {
+        return new SignCatalogEntry(
+                e.getId(),
+                e.getLocalId(),
+                e.getTitle(),
+                e.getVideoUrl(),
+                e.getThumbnailUrl(),
+                e.getSignDescription(),
+                e.getImagesCsv(),
+                splitCsv(e.getImagesCsv()),
+                e.getSourceUrl(),
+                intern(e.getCollectionDb()),
+                intern(e.getCategoryType()),
+                e.getViewCount(),
+                e.getCreatedAt(),
+                e.getModifiedAt(),
+                e.getRowVersion());
+    }
+
+    /** 종류가 적고 반복이 많은 값은 인스턴스 하나로 공유 */
+    private static String intern(String s) {
+        return (s == null) ? null : s.intern();
+    }
+
+    private static List<String> splitCsv(String s) {
+        if (s == null || s.isBlank()) return List.of();
+        return Arrays.stream(s.split(","))
+                .map(String::trim)
+                .filter(x -> !x.isBlank())
+                .toList();
+    }
+}
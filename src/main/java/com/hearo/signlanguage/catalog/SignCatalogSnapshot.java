@@ -0,0 +1,259 @@
+package com.hearo.signlanguage.catalog;
+
+import com.hearo.signlanguage.dto.SignFacetsDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 수어 카탈로그 인메모리 스냅샷 (불변)
+ * - id 내림차순 배열 + id/localId → 배열 위치 인덱스 + 검색 인덱스
+ * - 증분 동기화용 (version, id) 오름차순 배열
+ * - 분류/수집처 탐색 인덱스 (위치 기반이라 스냅샷마다 새로 만듦)
+ * - 갱신 시에는 새 인스턴스를 만들어 {@link SignCatalog}에서 통째로 교체한다
+ */
+public final class SignCatalogSnapshot {
+
+    // EMPTY 생성 시에도 쓰이므로 먼저 선언
+    private static final Comparator<SignCatalogEntry> VERSION_ORDER =
+            Comparator.comparingLong(SignCatalogEntry::version).thenComparing(SignCatalogEntry::id);
+
+    public static final SignCatalogSnapshot EMPTY =
+            new SignCatalogSnapshot(new SignCatalogEntry[0], SignSearchIndex.EMPTY, null);
+
+    public record Slice(long totalCount, List<SignCatalogEntry> items) {}
+
+    /** 검색 순위: 제목 일치 > 제목 접두 > 제목 포함 > 설명 포함 */
+    private static final int RANK_EXACT = 0, RANK_PREFIX = 1, RANK_INFIX = 2, RANK_DESCRIPTION = 3;
+
+    private final SignCatalogEntry[] entries;   // id 내림차순 (DB 목록 정렬과 동일)
+    private final Map<Long, Integer> byId;
+    private final Map<String, Integer> byLocalId;
+    private final SignSearchIndex index;
+    private final LocalDateTime builtAt;
+    private final SignCatalogEntry[] byVersion; // (version, id) 오름차순
+    private final SignFacetIndex facets;
+
+    // 검색 최종 확인용 정규화 문자열 (entries 와 같은 위치)
+    private final String[] normTitles;
+    private final String[] normDescriptions;
+
+    private SignCatalogSnapshot(SignCatalogEntry[] sorted, SignSearchIndex index, LocalDateTime builtAt) {
+        this.entries = sorted;
+        this.index = index;
+        this.builtAt = builtAt;
+        this.normTitles = new String[sorted.length];
+        this.normDescriptions = new String[sorted.length];
+
+        Map<Long, Integer> ids = new HashMap<>(sorted.length * 2);
+        Map<String, Integer> locals = new HashMap<>(sorted.length * 2);
+        for (int i = 0; i < sorted.length; i++) {
+            SignCatalogEntry e = sorted[i];
+            ids.put(e.id(), i);
+            if (e.localId() != null) locals.put(e.localId(), i);
+            normTitles[i] = SignSearchIndex.normalize(e.title());
+            normDescriptions[i] = SignSearchIndex.normalize(e.signDescription());
+        }
+        this.byId = Collections.unmodifiableMap(ids);
+        this.byLocalId = Collections.unmodifiableMap(locals);
+
+        this.byVersion = sorted.clone();
+        Arrays.sort(byVersion, VERSION_ORDER);
+        this.facets = SignFacetIndex.build(sorted);
+    }
+
+    public static SignCatalogSnapshot of(Collection<SignCatalogEntry> entries, LocalDateTime builtAt) {
+        return new SignCatalogSnapshot(sortByIdDesc(entries), SignSearchIndex.build(entries), builtAt);
+    }
+
+    /** 수집 변경분(id 기준)을 반영한 새 스냅샷 — 검색 인덱스는 바뀐 항목만 다시 색인 */
+    public SignCatalogSnapshot withUpserts(Collection<SignCatalogEntry> changed, LocalDateTime builtAt) {
+        if (changed == null || changed.isEmpty()) return this;
+        Map<Long, SignCatalogEntry> merged = new HashMap<>((entries.length + changed.size()) * 2);
+        for (SignCatalogEntry e : entries) merged.put(e.id(), e);
+
+        List<SignCatalogEntry> previous = new ArrayList<>();
+        for (SignCatalogEntry e : changed) {
+            SignCatalogEntry prev = merged.put(e.id(), e);
+            if (prev != null) previous.add(prev);
+        }
+        return new SignCatalogSnapshot(sortByIdDesc(merged.values()), index.withUpserts(previous, changed), builtAt);
+    }
+
+    public boolean isEmpty() { return entries.length == 0; }
+
+    public int size() { return entries.length; }
+
+    public LocalDateTime builtAt() { return builtAt; }
+
+    /** 데이터셋 버전 = 가장 큰 행 버전 (바뀐 행이 없으면 그대로) */
+    public long version() {
+        return (byVersion.length == 0) ? 0 : byVersion[byVersion.length - 1].version();
+    }
+
+    /** id 내림차순 전체 (읽기 전용) */
+    public List<SignCatalogEntry> entries() {
+        return Collections.unmodifiableList(Arrays.asList(entries));
+    }
+
+    public Optional<SignCatalogEntry> findById(Long id) {
+        Integer i = (id == null) ? null : byId.get(id);
+        return (i == null) ? Optional.empty() : Optional.of(entries[i]);
+    }
+
+    public Optional<SignCatalogEntry> findByLocalId(String localId) {
+        Integer i = (localId == null) ? null : byLocalId.get(localId);
+        return (i == null) ? Optional.empty() : Optional.of(entries[i]);
+    }
+
+    /** id 내림차순 페이지 */
+    public Slice list(int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), entries.length);
+        int to = Math.min(from + Math.max(limit, 0), entries.length);
+        return new Slice(entries.length, List.of(Arrays.copyOfRange(entries, from, to)));
+    }
+
+    /** 분류/수집처로 거른 id 내림차순 페이지 (null 인 조건은 무시) */
+    public Slice list(String category, String collection, int offset, int limit) {
+        int[] positions = facets.positions(category, collection);
+        if (positions == null) return list(offset, limit);
+        int from = Math.min(Math.max(offset, 0), positions.length);
+        int to = Math.min(from + Math.max(limit, 0), positions.length);
+        return new Slice(positions.length, at(positions, from, to));
+    }
+
+    /** id 내림차순으로 afterId 보다 작은 항목부터 (afterId 가 null 이면 처음부터) */
+    public List<SignCatalogEntry> listAfter(Long afterId, int limit) {
+        int from = (afterId == null) ? 0 : firstPosBelow(afterId);
+        int to = Math.min(from + Math.max(limit, 0), entries.length);
+        return List.of(Arrays.copyOfRange(entries, from, to));
+    }
+
+    /** 분류/수집처로 거른 커서 목록 */
+    public List<SignCatalogEntry> listAfter(String category, String collection, Long afterId, int limit) {
+        int[] positions = facets.positions(category, collection);
+        if (positions == null) return listAfter(afterId, limit);
+        int from = 0;
+        if (afterId != null) {
+            from = Arrays.binarySearch(positions, firstPosBelow(afterId));
+            if (from < 0) from = -from - 1;
+        }
+        return at(positions, from, Math.min(from + Math.max(limit, 0), positions.length));
+    }
+
+    /** 값별 건수 — 분류 건수는 수집처 필터 안에서, 수집처 건수는 분류 필터 안에서 센다 */
+    public SignFacetsDto facets(String category, String collection) {
+        return SignFacetsDto.builder()
+                .categories(facets.counts(SignFacetIndex.Field.CATEGORY, facets.positions(null, collection)))
+                .collections(facets.counts(SignFacetIndex.Field.COLLECTION, facets.positions(category, null)))
+                .build();
+    }
+
+    /**
+     * 증분 동기화: (version, id) 가 (sinceVersion, afterId) 보다 큰 항목을 오름차순으로
+     * - 한 버전(=수집 청크)이 페이지 경계에서 잘려도 afterId 로 이어 받는다
+     */
+    public List<SignCatalogEntry> changesAfter(long sinceVersion, long afterId, int limit) {
+        int lo = 0, hi = byVersion.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            SignCatalogEntry e = byVersion[mid];
+            boolean after = e.version() > sinceVersion || (e.version() == sinceVersion && e.id() > afterId);
+            if (after) hi = mid;
+            else lo = mid + 1;
+        }
+        int to = Math.min(lo + Math.max(limit, 0), byVersion.length);
+        return List.of(Arrays.copyOfRange(byVersion, lo, to));
+    }
+
+    /**
+     * 제목/설명 검색 (순위 → id 내림차순)
+     * - 빈 질의는 전체 목록 (기존 LIKE '%%' 와 동일)
+     */
+    public Slice search(String keyword, int offset, int limit) {
+        String q = SignSearchIndex.normalize(keyword);
+        if (q.isEmpty()) return list(offset, limit);
+
+        long[] keys = rankedKeys(q);
+        int from = Math.min(Math.max(offset, 0), keys.length);
+        int to = Math.min(from + Math.max(limit, 0), keys.length);
+        List<SignCatalogEntry> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) page.add(entries[(int) (keys[i] % entries.length)]);
+        return new Slice(keys.length, List.copyOf(page));
+    }
+
+    /** 검색 결과 한 건 + 순위 (커서 생성용) */
+    public record Hit(SignCatalogEntry entry, int rank) {}
+
+    /**
+     * 커서 검색: (rank, id) 가 커서 다음인 항목부터
+     * - 정렬 키가 rank 오름차순 → 위치(=id 내림차순) 이므로 커서 위치를 이분 탐색으로 찾는다
+     */
+    public List<Hit> searchAfter(String keyword, Integer afterRank, Long afterId, int limit) {
+        String q = SignSearchIndex.normalize(keyword);
+        if (q.isEmpty()) {
+            if (afterRank != null && afterRank > 0) return List.of();
+            return listAfter(afterId, limit).stream().map(e -> new Hit(e, 0)).toList();
+        }
+
+        long n = entries.length;
+        long[] keys = rankedKeys(q);
+        int from = 0;
+        if (afterRank != null && afterId != null) {
+            long start = afterRank * n + firstPosBelow(afterId);
+            from = Arrays.binarySearch(keys, start);
+            if (from < 0) from = -from - 1;
+        }
+        int to = Math.min(from + Math.max(limit, 0), keys.length);
+        List<Hit> out = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) out.add(new Hit(entries[(int) (keys[i] % n)], (int) (keys[i] / n)));
+        return out;
+    }
+
+    /** rank * size + 위치 → 정렬 한 번으로 순위/최신순 동시 처리 */
+    private long[] rankedKeys(String q) {
+        long n = entries.length;
+        Set<Integer> seen = new HashSet<>();
+        List<Long> keys = new ArrayList<>();
+        for (int id : index.titleCandidates(q)) {
+            Integer pos = byId.get((long) id);
+            if (pos == null || !normTitles[pos].contains(q)) continue;
+            int rank = normTitles[pos].equals(q) ? RANK_EXACT
+                    : normTitles[pos].startsWith(q) ? RANK_PREFIX
+                    : RANK_INFIX;
+            seen.add(pos);
+            keys.add(rank * n + pos);
+        }
+        for (int id : index.descCandidates(q)) {
+            Integer pos = byId.get((long) id);
+            if (pos == null || seen.contains(pos) || !normDescriptions[pos].contains(q)) continue;
+            keys.add(RANK_DESCRIPTION * n + pos);
+        }
+        long[] out = keys.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(out);
+        return out;
+    }
+
+    /** id 내림차순 배열에서 id < afterId 인 첫 위치 */
+    private int firstPosBelow(long afterId) {
+        int lo = 0, hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (entries[mid].id() < afterId) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    private List<SignCatalogEntry> at(int[] positions, int from, int to) {
+        List<SignCatalogEntry> out = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) out.add(entries[positions[i]]);
+        return List.copyOf(out);
+    }
+
+    private static SignCatalogEntry[] sortByIdDesc(Collection<SignCatalogEntry> entries) {
+        SignCatalogEntry[] sorted = entries.toArray(new SignCatalogEntry[0]);
+        Arrays.sort(sorted, Comparator.comparing(SignCatalogEntry::id).reversed());
+        return sorted;
+    }
+}
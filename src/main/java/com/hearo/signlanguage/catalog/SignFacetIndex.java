@@ -0,0 +1,138 @@
+package com.hearo.signlanguage.catalog;
+
+import com.hearo.signlanguage.dto.SignFacetsDto;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 분류(categoryType) / 수집처(collectionDb) 탐색 인덱스 (카탈로그 스냅샷과 함께 만드는 불변 구조)
+ * - 값 사전: 값 → 코드, 문서별 코드 배열(사전 인코딩) + 코드별 스냅샷 위치 posting(오름차순 = id 내림차순)
+ * - 값별 건수는 posting 길이, 다른 필드로 거른 건수는 문서 코드 배열로 센다 (GROUP BY 없음)
+ * - 빈 값은 색인하지 않음
+ */
+final class SignFacetIndex {
+
+    enum Field {
+        CATEGORY(SignCatalogEntry::categoryType),
+        COLLECTION(SignCatalogEntry::collectionDb);
+
+        private final Function<SignCatalogEntry, String> value;
+
+        Field(Function<SignCatalogEntry, String> value) {
+            this.value = value;
+        }
+    }
+
+    static final SignFacetIndex EMPTY = build(new SignCatalogEntry[0]);
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final EnumMap<Field, Dictionary> dictionaries;
+
+    private SignFacetIndex(EnumMap<Field, Dictionary> dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    static SignFacetIndex build(SignCatalogEntry[] sorted) {
+        EnumMap<Field, Dictionary> dicts = new EnumMap<>(Field.class);
+        for (Field f : Field.values()) dicts.put(f, Dictionary.build(sorted, f.value));
+        return new SignFacetIndex(dicts);
+    }
+
+    /**
+     * 필터에 맞는 스냅샷 위치 (오름차순)
+     * @return 필터가 없으면 null (전체)
+     */
+    int[] positions(String category, String collection) {
+        int[] byCategory = (category == null) ? null : dictionaries.get(Field.CATEGORY).postings(category);
+        int[] byCollection = (collection == null) ? null : dictionaries.get(Field.COLLECTION).postings(collection);
+        if (byCategory == null) return byCollection;
+        if (byCollection == null) return byCategory;
+        return intersect(byCategory, byCollection);
+    }
+
+    /** field 값별 건수 (건수 내림차순 → 값 오름차순), within 이 null 이면 전체 기준 */
+    List<SignFacetsDto.Count> counts(Field field, int[] within) {
+        Dictionary d = dictionaries.get(field);
+        int[] counts = new int[d.values.length];
+        if (within == null) {
+            for (int code = 0; code < counts.length; code++) counts[code] = d.postings[code].length;
+        } else {
+            for (int pos : within) {
+                int code = d.docCodes[pos];
+                if (code >= 0) counts[code]++;
+            }
+        }
+        List<SignFacetsDto.Count> out = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) out.add(new SignFacetsDto.Count(d.values[code], counts[code]));
+        }
+        out.sort(Comparator.comparingInt(SignFacetsDto.Count::count).reversed()
+                .thenComparing(SignFacetsDto.Count::value));
+        return out;
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else { out[n++] = a[i]; i++; j++; }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 값 사전 (코드 = 처음 나온 순서) */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes;
+        private final String[] values;     // 코드 → 값
+        private final int[] docCodes;      // 스냅샷 위치 → 코드 (값 없으면 -1)
+        private final int[][] postings;    // 코드 → 위치 (오름차순)
+
+        private Dictionary(Map<String, Integer> codes, String[] values, int[] docCodes, int[][] postings) {
+            this.codes = codes;
+            this.values = values;
+            this.docCodes = docCodes;
+            this.postings = postings;
+        }
+
+        static Dictionary build(SignCatalogEntry[] sorted, Function<SignCatalogEntry, String> valueOf) {
+            Map<String, Integer> codes = new HashMap<>();
+            List<String> values = new ArrayList<>();
+            int[] docCodes = new int[sorted.length];
+            int[] sizes = new int[0];
+            for (int pos = 0; pos < sorted.length; pos++) {
+                String v = valueOf.apply(sorted[pos]);
+                if (v == null || v.isBlank()) {
+                    docCodes[pos] = -1;
+                    continue;
+                }
+                int code = codes.computeIfAbsent(v.trim(), k -> {
+                    values.add(k);
+                    return values.size() - 1;
+                });
+                if (code == sizes.length) sizes = Arrays.copyOf(sizes, code + 1);
+                sizes[code]++;
+                docCodes[pos] = code;
+            }
+
+            int[][] postings = new int[values.size()][];
+            for (int code = 0; code < postings.length; code++) postings[code] = new int[sizes[code]];
+            int[] fill = new int[values.size()];
+            for (int pos = 0; pos < sorted.length; pos++) {
+                int code = docCodes[pos];
+                if (code >= 0) postings[code][fill[code]++] = pos;
+            }
+            return new Dictionary(Map.copyOf(codes), values.toArray(new String[0]), docCodes, postings);
+        }
+
+        int[] postings(String value) {
+            Integer code = codes.get(value.trim());
+            return (code == null) ? NO_POSTINGS : postings[code];
+        }
+    }
+}
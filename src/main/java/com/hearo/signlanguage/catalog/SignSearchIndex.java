@@ -0,0 +1,170 @@
+package com.hearo.signlanguage.catalog;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 수어 검색 인덱스 (카탈로그 스냅샷과 함께 교체되는 불변 구조)
+ * - 비교 문자열: NFC 정규화 + 소문자 + 공백 제거 ("사랑 하다" == "사랑하다", 자모 분리 입력도 같은 글자로)
+ * - title: unigram + bigram, signDescription: bigram 역색인 → posting 교집합 후 contains 로 최종 확인
+ * - posting 은 수어 id 오름차순이라 수집 변경분만 빼고 넣어 새 인덱스를 만들 수 있다 (withUpserts)
+ */
+final class SignSearchIndex {
+
+    static final SignSearchIndex EMPTY = new SignSearchIndex(Map.of(), Map.of());
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final Map<String, int[]> titlePostings;
+    private final Map<String, int[]> descPostings;
+
+    private SignSearchIndex(Map<String, int[]> titlePostings, Map<String, int[]> descPostings) {
+        this.titlePostings = titlePostings;
+        this.descPostings = descPostings;
+    }
+
+    static SignSearchIndex build(Collection<SignCatalogEntry> entries) {
+        List<SignCatalogEntry> byIdAsc = new ArrayList<>(entries);
+        byIdAsc.sort(Comparator.comparing(SignCatalogEntry::id));
+
+        Map<String, PostingBuilder> title = new HashMap<>();
+        Map<String, PostingBuilder> desc = new HashMap<>();
+        for (SignCatalogEntry e : byIdAsc) {
+            int doc = docId(e);
+            for (String g : titleGrams(normalize(e.title()))) title.computeIfAbsent(g, k -> new PostingBuilder()).add(doc);
+            for (String g : bigrams(normalize(e.signDescription()))) desc.computeIfAbsent(g, k -> new PostingBuilder()).add(doc);
+        }
+        return new SignSearchIndex(freeze(title), freeze(desc));
+    }
+
+    /**
+     * 변경된 항목만 반영한 새 인덱스 (기존 인스턴스는 그대로)
+     * @param previous changed 와 같은 id 의 이전 버전 (신규 항목은 없음)
+     */
+    SignSearchIndex withUpserts(Collection<SignCatalogEntry> previous, Collection<SignCatalogEntry> changed) {
+        if (changed.isEmpty()) return this;
+        Map<String, int[]> title = patch(titlePostings, previous, changed, e -> titleGrams(normalize(e.title())));
+        Map<String, int[]> desc = patch(descPostings, previous, changed, e -> bigrams(normalize(e.signDescription())));
+        return new SignSearchIndex(title, desc);
+    }
+
+    /** 정규화된 질의의 모든 title gram 을 가진 id (오름차순) */
+    int[] titleCandidates(String normalizedQuery) {
+        Set<String> grams = (normalizedQuery.length() == 1) ? Set.of(normalizedQuery) : bigrams(normalizedQuery);
+        return intersect(titlePostings, grams);
+    }
+
+    /** 정규화된 질의의 모든 description bigram 을 가진 id (1글자 질의는 설명을 보지 않음) */
+    int[] descCandidates(String normalizedQuery) {
+        if (normalizedQuery.length() < 2) return NO_POSTINGS;
+        return intersect(descPostings, bigrams(normalizedQuery));
+    }
+
+    /** 검색 비교용 문자열 (색인/질의/최종 확인 모두 같은 규칙) */
+    static String normalize(String s) {
+        if (s == null || s.isEmpty()) return "";
+        String nfc = Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    private static int docId(SignCatalogEntry e) {
+        return Math.toIntExact(e.id());
+    }
+
+    private static int[] intersect(Map<String, int[]> postings, Set<String> grams) {
+        if (grams.isEmpty()) return NO_POSTINGS;
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String g : grams) {
+            int[] p = postings.get(g);
+            if (p == null) return NO_POSTINGS;
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(a -> a.length)); // 짧은 posting 부터 좁힘
+
+        int[] acc = lists.get(0);
+        for (int i = 1; i < lists.size() && acc.length > 0; i++) {
+            int[] other = lists.get(i);
+            int[] out = new int[acc.length];
+            int n = 0;
+            for (int doc : acc) {
+                if (Arrays.binarySearch(other, doc) >= 0) out[n++] = doc;
+            }
+            acc = Arrays.copyOf(out, n);
+        }
+        return acc;
+    }
+
+    private interface GramFn {
+        Set<String> grams(SignCatalogEntry e);
+    }
+
+    private static Map<String, int[]> patch(Map<String, int[]> base,
+                                            Collection<SignCatalogEntry> previous,
+                                            Collection<SignCatalogEntry> changed,
+                                            GramFn gramFn) {
+        Map<String, Set<Integer>> removals = new HashMap<>();
+        Map<String, Set<Integer>> additions = new HashMap<>();
+        for (SignCatalogEntry e : previous) {
+            for (String g : gramFn.grams(e)) removals.computeIfAbsent(g, k -> new HashSet<>()).add(docId(e));
+        }
+        for (SignCatalogEntry e : changed) {
+            for (String g : gramFn.grams(e)) additions.computeIfAbsent(g, k -> new HashSet<>()).add(docId(e));
+        }
+
+        Map<String, int[]> out = new HashMap<>(base);
+        Set<String> touched = new HashSet<>(removals.keySet());
+        touched.addAll(additions.keySet());
+        for (String g : touched) {
+            Set<Integer> remove = removals.getOrDefault(g, Set.of());
+            Set<Integer> add = additions.getOrDefault(g, Set.of());
+            TreeSet<Integer> docs = new TreeSet<>(add);
+            for (int doc : base.getOrDefault(g, NO_POSTINGS)) {
+                if (!remove.contains(doc)) docs.add(doc);
+            }
+            if (docs.isEmpty()) out.remove(g);
+            else out.put(g, docs.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return out;
+    }
+
+    /** unigram + bigram (한 글자만 입력한 질의도 색인으로 처리) */
+    private static Set<String> titleGrams(String text) {
+        Set<String> out = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) out.add(text.substring(i, i + 1));
+        out.addAll(bigrams(text));
+        return out;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> out = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) out.add(text.substring(i, i + 2));
+        return out;
+    }
+
+    private static Map<String, int[]> freeze(Map<String, PostingBuilder> builders) {
+        Map<String, int[]> out = new HashMap<>(builders.size() * 2);
+        builders.forEach((gram, b) -> out.put(gram, b.toArray()));
+        return out;
+    }
+
+    /** id 오름차순으로만 추가되므로 마지막 값만 비교해 중복 제거 */
+    private static final class PostingBuilder {
+        private int[] buf = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && buf[size - 1] == doc) return;
+            if (size == buf.length) buf = Arrays.copyOf(buf, size * 2);
+            buf[size++] = doc;
+        }
+
+        int[] toArray() { return Arrays.copyOf(buf, size); }
+    }
+}
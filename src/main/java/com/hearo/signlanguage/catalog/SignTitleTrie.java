@@ -0,0 +1,91 @@
+package com.hearo.signlanguage.catalog;
+
+import java.util.*;
+
+/**
+ * 수어 제목 자동완성 trie (불변, 빌드 후 교체)
+ * - jamo: 자모 분해 키 ("사ㄹ", "살" → 사랑), chosung: 초성 키 ("ㅅㄹ" → 사랑)
+ * - 제목 전체와 두 번째 단어부터의 시작 위치를 모두 키로 넣는다 ("하다" → "사랑 하다")
+ * - 문서를 점수 내림차순으로 넣으므로 노드마다 먼저 도착한 K 개가 곧 그 접두의 top-K
+ *   → 조회는 질의 길이만큼 내려가서 배열을 잘라 주면 끝
+ */
+final class SignTitleTrie {
+
+    static final int MAX_K = 20;
+
+    static final SignTitleTrie EMPTY = new SignTitleTrie(List.of());
+
+    private final SignCatalogEntry[] docs;   // 점수 내림차순 (문서 번호 = 순위)
+    private final Node jamoRoot = new Node();
+    private final Node chosungRoot = new Node();
+
+    /** @param ranked 점수 내림차순으로 정렬된 항목 */
+    SignTitleTrie(List<SignCatalogEntry> ranked) {
+        this.docs = ranked.toArray(new SignCatalogEntry[0]);
+        for (int doc = 0; doc < docs.length; doc++) {
+            for (String start : wordStarts(docs[doc].title())) {
+                insert(jamoRoot, HangulJamo.decompose(start), doc);
+                insert(chosungRoot, HangulJamo.chosung(start), doc);
+            }
+        }
+    }
+
+    int size() { return docs.length; }
+
+    /** 초성만 입력했으면 초성 trie, 아니면 자모 trie 에서 접두 검색 */
+    List<SignCatalogEntry> suggest(String query, int limit) {
+        String q = SignSearchIndex.normalize(query);
+        if (q.isEmpty() || limit <= 0) return List.of();
+
+        Node node = HangulJamo.isChosungOnly(q)
+                ? walk(chosungRoot, q)
+                : walk(jamoRoot, HangulJamo.decompose(q));
+        if (node == null) return List.of();
+
+        int n = Math.min(limit, node.size);
+        List<SignCatalogEntry> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(docs[node.top[i]]);
+        return out;
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    /** 정규화된 제목 전체 + 공백 뒤 단어 시작 위치부터의 접미 */
+    private static Set<String> wordStarts(String title) {
+        Set<String> out = new LinkedHashSet<>();
+        if (title == null || title.isBlank()) return out;
+        String[] words = title.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            out.add(SignSearchIndex.normalize(String.join("", Arrays.copyOfRange(words, i, words.length))));
+        }
+        return out;
+    }
+
+    private static void insert(Node root, String key, int doc) {
+        Node node = root;
+        node.offer(doc);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.offer(doc);
+        }
+    }
+
+    private static Node walk(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) node = node.children.get(key.charAt(i));
+        return node;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private int[] top = new int[2];
+        private int size;
+
+        /** 순위 순으로만 들어오므로 앞선 K 개만 유지, 같은 문서의 다른 키는 마지막 값으로 중복 제거 */
+        void offer(int doc) {
+            if (size == MAX_K || (size > 0 && top[size - 1] == doc)) return;
+            if (size == top.length) top = Arrays.copyOf(top, Math.min(size * 2, MAX_K));
+            top[size++] = doc;
+        }
+    }
+}
@@ -1,31 +1,148 @@
 package com.hearo.signlanguage.client;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hearo.global.external.ExternalCallExecutor;
+import com.hearo.global.xml.PublicDataXmlReader;
 import com.hearo.signlanguage.client.dto.SignRawResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 
+/**
+ * KCISA 수어 API 클라이언트
+ * - fetch(): 캐시 없이 외부 호출 1회 (수집용)
+ * - fetchCached(): 외부 조회 프록시용. (keyword, pageNo, numOfRows) 단위 비동기 로딩 캐시 (동시 요청은 로드 하나 공유)
+ *   refreshAfterWrite 가 지나면 이전 응답을 주면서 백그라운드 갱신, 갱신 실패 시 이전 값 유지
+ * - 만료 후 429/일일 한도/호출 차단으로 실패하면 더 오래 보관한 마지막 정상 응답으로 대신 응답 (stale-while-revalidate)
+ * - resultCode 가 0000 이 아닌 응답은 캐시하지 않음
+ * - 적중/미스 지표는 cache.* 메트릭(cache=signProxy)으로 노출
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class SignApiClient {
 
+    public static final String UPSTREAM = "signApi";
+
     private final WebClient signApiWebClient;
+    private final ExternalCallExecutor externalCalls;
+    private final MeterRegistry meterRegistry;
 
     @Value("${sign.api.service-key}")
     private String serviceKey;
 
-    public SignRawResponse fetch(String keyword, int pageNo, int numOfRows) {
+    // WebClient 코덱 상한과 같은 값 (XML 디코더 상한은 <body> 전체에 걸림)
+    @Value("${spring.webclient.max-in-memory-size:4194304}")
+    private int maxInMemorySize;
+
+    @Value("${sign.api.proxy-cache.max-entries:2000}")
+    private long proxyCacheMaxEntries;
+
+    @Value("${sign.api.proxy-cache.ttl-seconds:600}")
+    private long proxyCacheTtlSeconds;
+
+    @Value("${sign.api.proxy-cache.refresh-seconds:120}")
+    private long proxyCacheRefreshSeconds;
+
+    // 한도 초과 시 대신 줄 마지막 정상 응답 보관 기간
+    @Value("${sign.api.proxy-cache.stale-hours:24}")
+    private long staleHours;
+
+    private AsyncLoadingCache<ProxyKey, SignRawResponse> proxyCache;
+    private Cache<ProxyKey, SignRawResponse> lastGood;
+
+    private record ProxyKey(String keyword, int pageNo, int numOfRows) {}
+
+    @PostConstruct
+    void initCache() {
+        this.lastGood = Caffeine.newBuilder()
+                .maximumSize(proxyCacheMaxEntries)
+                .expireAfterWrite(Duration.ofHours(staleHours))
+                .build();
+        this.proxyCache = Caffeine.newBuilder()
+                .maximumSize(proxyCacheMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(proxyCacheTtlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(proxyCacheRefreshSeconds))
+                .recordStats()
+                .buildAsync((key, executor) -> fetch(key.keyword(), key.pageNo(), key.numOfRows())
+                        .flatMap(SignApiClient::requireOk)
+                        .doOnNext(raw -> lastGood.put(key, raw))
+                        .toFuture());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, proxyCache.synchronous(), "signProxy");
+    }
+
+    /**
+     * 캐시 경유 조회 (외부 조회 프록시용, 구독 시점에 로드)
+     * - 한 구독자의 취소/타임아웃이 공유 로드를 끊지 않도록 suppressCancel
+     */
+    public Mono<SignRawResponse> fetchCached(String keyword, int pageNo, int numOfRows) {
+        ProxyKey key = new ProxyKey((keyword == null) ? "" : keyword.trim(), pageNo, numOfRows);
+        return Mono.fromFuture(() -> proxyCache.get(key), true)
+                .onErrorResume(SignApiClient::isQuotaOrThrottled, e -> {
+                    SignRawResponse stale = lastGood.getIfPresent(key);
+                    if (stale == null) return Mono.error(e);
+                    log.warn("[SignApiClient] serve stale response key={} (reason={})",
+                            key, ExternalCallExecutor.rootName(e));
+                    return Mono.just(stale);
+                });
+    }
+
+    /**
+     * 429, 일일 한도(본문/resultCode), 우리 쪽 rate limiter/circuit breaker 차단
+     * - await() 가 EXTERNAL_ERROR 로 감싸서 던지므로 원인 체인까지 본다
+     */
+    public static boolean isQuotaOrThrottled(Throwable t) {
+        for (Throwable c = t; c != null; c = (c.getCause() == c) ? null : c.getCause()) {
+            if (ExternalCallExecutor.isTooManyRequests(c)) return true;
+            if (c instanceof RequestNotPermitted || c instanceof CallNotPermittedException) return true;
+        }
+        return isDailyQuotaExceeded(t);
+    }
+
+    /** 일일 한도 소진 (200 응답의 resultCode 22 또는 오류 본문의 "quota exceeded") — 재시도해도 소용없음 */
+    public static boolean isDailyQuotaExceeded(Throwable t) {
+        for (Throwable c = t; c != null; c = (c.getCause() == c) ? null : c.getCause()) {
+            if (c instanceof SignApiResultException r && r.isQuotaExceeded()) return true;
+            if (c instanceof WebClientResponseException w) {
+                String body = w.getResponseBodyAsString();
+                if (body != null && body.toLowerCase().contains("quota exceeded")) return true;
+            }
+        }
+        return false;
+    }
+
+    private static Mono<SignRawResponse> requireOk(SignRawResponse raw) {
+        var header = raw.getResponse().getHeader();
+        if (header != null && !"0000".equals(header.getResultCode())) {
+            return Mono.error(new SignApiResultException(header.getResultCode(), header.getResultMsg()));
+        }
+        return Mono.just(raw);
+    }
+
+    /** 외부 호출 1회 (rate limiter/circuit breaker 적용, 재시도·대기는 호출부에서 결정) */
+    public Mono<SignRawResponse> fetch(String keyword, int pageNo, int numOfRows) {
         String kw = (keyword == null) ? "" : keyword;
 
-        String xml = signApiWebClient.get()
+        // XML 본문을 문자열/트리로 올리지 않고 스트리밍으로 item 단위 조립
+        Mono<SignRawResponse> call = signApiWebClient.get()
                 .uri(uri -> uri.path("/API_CNV_054/request")
                         .queryParam("serviceKey", serviceKey)
                         .queryParam("numOfRows", numOfRows)
@@ -35,27 +152,69 @@ public class SignApiClient {
                         .build())
                 .accept(MediaType.APPLICATION_XML)  // XML로 받기
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToFlux(DataBuffer.class)
+                .transform(b -> PublicDataXmlReader.read(b, maxInMemorySize))
+                .collect(SignApiClient::newResponse, SignApiClient::accumulate)
+                .onErrorMap(e -> !(e instanceof WebClientException),
+                        e -> new IllegalStateException("KCISA XML 파싱 실패", e))
+                .flatMap(raw -> (raw.getResponse().getHeader() == null && raw.getResponse().getBody() == null)
+                        ? Mono.error(new IllegalStateException("KCISA API 빈 응답"))
+                        : Mono.just(raw));
 
-        if (xml == null || xml.isBlank()) {
-            throw new IllegalStateException("KCISA API 빈 응답");
-        }
-
-        try {
-            XmlMapper xmlMapper = new XmlMapper();
-            xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            JsonNode xmlTree = xmlMapper.readTree(xml.getBytes(StandardCharsets.UTF_8));
+        return externalCalls.guard(UPSTREAM, call);
+    }
 
-            ObjectMapper jsonMapper = new ObjectMapper()
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static SignRawResponse newResponse() {
+        SignRawResponse raw = new SignRawResponse();
+        raw.setResponse(new SignRawResponse.Response());
+        return raw;
+    }
 
-            var wrapped = jsonMapper.createObjectNode();
-            wrapped.set("response", xmlTree);
+    private static void accumulate(SignRawResponse raw, PublicDataXmlReader.Fields f) {
+        var res = raw.getResponse();
+        switch (f.section()) {
+            case HEADER -> {
+                var h = new SignRawResponse.Header();
+                h.setResultCode(f.get("resultCode"));
+                h.setResultMsg(f.get("resultMsg"));
+                res.setHeader(h);
+            }
+            case BODY -> {
+                var body = bodyOf(res);
+                body.setNumOfRows(f.get("numOfRows"));
+                body.setPageNo(f.get("pageNo"));
+                body.setTotalCount(f.get("totalCount"));
+            }
+            case ITEM -> bodyOf(res).getItems().getItem().add(toItem(f));
+        }
+    }
 
-            return jsonMapper.treeToValue(wrapped, SignRawResponse.class);
-        } catch (Exception e) {
-            throw new IllegalStateException("KCISA XML 파싱 실패", e);
+    private static SignRawResponse.Body bodyOf(SignRawResponse.Response res) {
+        if (res.getBody() == null) {
+            var items = new SignRawResponse.Items();
+            items.setItem(new ArrayList<>());
+            var body = new SignRawResponse.Body();
+            body.setItems(items);
+            res.setBody(body);
         }
+        return res.getBody();
+    }
+
+    private static SignRawResponse.Item toItem(PublicDataXmlReader.Fields f) {
+        var i = new SignRawResponse.Item();
+        i.setTitle(f.get("title"));
+        i.setAlternativeTitle(f.get("alternativeTitle"));
+        i.setDescription(f.get("description"));
+        i.setSubDescription(f.get("subDescription"));
+        i.setLocalId(f.get("localId"));
+        i.setViewCount(f.get("viewCount"));
+        i.setUrl(f.get("url"));
+        i.setImageObject(f.get("imageObject"));
+        i.setPeriod(f.get("period"));
+        i.setSignDescription(f.get("signDescription"));
+        i.setSignImages(f.get("signImages"));
+        i.setCollectionDb(f.get("collectionDb"));
+        i.setCategoryType(f.get("categoryType"));
+        return i;
     }
 }
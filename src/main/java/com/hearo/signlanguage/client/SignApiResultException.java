@@ -0,0 +1,22 @@
+package com.hearo.signlanguage.client;
+
+import lombok.Getter;
+
+/** KCISA 응답 헤더의 resultCode 가 정상(0000)이 아닐 때 (HTTP 200 으로 오는 오류) */
+@Getter
+public class SignApiResultException extends IllegalStateException {
+
+    // 공공데이터 공통 오류코드 22: LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR
+    private static final String QUOTA_CODE = "22";
+
+    private final String resultCode;
+
+    public SignApiResultException(String resultCode, String resultMsg) {
+        super("KCISA API 오류: " + ((resultMsg != null) ? resultMsg : resultCode));
+        this.resultCode = resultCode;
+    }
+
+    public boolean isQuotaExceeded() {
+        return QUOTA_CODE.equals(resultCode);
+    }
+}
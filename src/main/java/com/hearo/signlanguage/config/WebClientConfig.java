@@ -27,6 +27,9 @@ public class WebClientConfig {
     @Value("${spring.webclient.read-timeout-ms}")
     private int readTimeoutMs;
 
+    @Value("${spring.webclient.max-in-memory-size:4194304}")
+    private int maxInMemorySize;
+
     @Bean
     public WebClient signApiWebClient() {
         HttpClient httpClient = HttpClient.create()
@@ -48,7 +51,7 @@ public class WebClientConfig {
                             });
                 })
                 .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(cfg -> cfg.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                        .codecs(cfg -> cfg.defaultCodecs().maxInMemorySize(maxInMemorySize))
                         .build())
                 .build();
     }
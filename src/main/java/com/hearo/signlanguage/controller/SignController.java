@@ -1,21 +1,33 @@
 // file: src/main/java/com/hearo/signlanguage/controller/SignController.java
 package com.hearo.signlanguage.controller;
 
+import com.hearo.global.dto.CursorSlice;
 import com.hearo.global.response.ApiResponse;
 import com.hearo.global.response.ErrorStatus;
 import com.hearo.global.response.SuccessStatus;
-import com.hearo.signlanguage.domain.SignEntry;
+import com.hearo.signlanguage.client.SignApiClient;
 import com.hearo.signlanguage.dto.IngestResultDto;
+import com.hearo.signlanguage.dto.SignChangesDto;
 import com.hearo.signlanguage.dto.SignDetailDto;
+import com.hearo.signlanguage.dto.SignFacetsDto;
 import com.hearo.signlanguage.dto.SignFavoriteItemDto;
+import com.hearo.signlanguage.dto.SignListItemDto;
 import com.hearo.signlanguage.dto.SignPageDto;
+import com.hearo.signlanguage.dto.SignSuggestionDto;
 import com.hearo.signlanguage.service.SignService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/signs")
 @RequiredArgsConstructor
@@ -36,8 +48,9 @@ public class SignController {
         try {
             var data = service.externalList(p, s);
             return ApiResponse.success(SuccessStatus.FETCHED, data);
-        } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-            if (e.getStatusCode().value() == 429) {
+        } catch (RuntimeException e) {
+            // 캐시에 대신 줄 응답도 없을 때만 여기로 옴
+            if (SignApiClient.isQuotaOrThrottled(e)) {
                 return ApiResponse.error(ErrorStatus.EXTERNAL_QUOTA);
             }
             throw e;
@@ -57,29 +70,117 @@ public class SignController {
         try {
             var data = service.externalSearch(keyword, p, s);
             return ApiResponse.success(SuccessStatus.FETCHED, data);
-        } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-            if (e.getStatusCode().value() == 429) {
+        } catch (RuntimeException e) {
+            // 캐시에 대신 줄 응답도 없을 때만 여기로 옴
+            if (SignApiClient.isQuotaOrThrottled(e)) {
                 return ApiResponse.error(ErrorStatus.EXTERNAL_QUOTA);
             }
             throw e;
         }
     }
 
-    // ===== DB 조회 =====
+    // ===== 카탈로그 조회 =====
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<SignEntry>>> listFromDb(
+    public ResponseEntity<ApiResponse<Page<SignListItemDto>>> listFromDb(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        var data = service.listFromDb(page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String collection,
+            Authentication authentication) {
+        var data = service.listFromDb(page, size, category, collection, extractUserId(authentication));
         return ApiResponse.success(SuccessStatus.FETCHED, data);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<SignEntry>>> searchFromDb(
+    public ResponseEntity<ApiResponse<Page<SignListItemDto>>> searchFromDb(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        var data = service.searchFromDb(keyword, page, size);
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        var data = service.searchFromDb(keyword, page, size, extractUserId(authentication));
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    // ===== 커서 조회 (무한 스크롤: nextCursor 를 after 로 다시 전달) =====
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<SignListItemDto>>> listAfter(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String collection,
+            Authentication authentication) {
+        var data = service.listAfter(after, size, category, collection, extractUserId(authentication));
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    // ===== 분류/수집처 탐색 (값별 건수) =====
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<SignFacetsDto>> facets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String collection) {
+        var data = service.facets(category, collection);
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<SignListItemDto>>> searchAfter(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        var data = service.searchAfter(keyword, after, size, extractUserId(authentication));
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    // ===== 인기/급상승 =====
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<SignListItemDto>>> popular(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        var data = service.popular(limit, extractUserId(authentication));
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<SignListItemDto>>> trending(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        var data = service.trending(limit, extractUserId(authentication));
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    // ===== 자동완성 (초성 "ㅅㄹ", 입력 중 "사ㄹ" 모두 지원) =====
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<SignSuggestionDto>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        var data = service.autocomplete(q, limit);
+        return ApiResponse.success(SuccessStatus.FETCHED, data);
+    }
+
+    // ===== 오프라인 동기화 =====
+    /**
+     * 수어 사전 전체 번들 (GZIP 바이너리, 형식은 SignBundle 참고)
+     * - If-None-Match 일치 시 304, Range 요청은 부분 응답(206)으로 이어받기 가능
+     */
+    @GetMapping("/bundle")
+    public ResponseEntity<Resource> bundle() {
+        var b = service.bundle();
+        return ResponseEntity.ok()
+                .eTag(b.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"signs-v" + b.version() + ".bin.gz\"")
+                .header("X-Bundle-Version", String.valueOf(b.version()))
+                .body(new ByteArrayResource(b.bytes()));
+    }
+
+    /** 번들(또는 이전 동기화) 이후 바뀐 항목만 (hasNext 면 nextSince 로 이어서 요청) */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<SignChangesDto>> changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size) {
+        var data = service.changesSince(since, size);
         return ApiResponse.success(SuccessStatus.FETCHED, data);
     }
 
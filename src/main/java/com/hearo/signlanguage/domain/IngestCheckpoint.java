@@ -0,0 +1,52 @@
+package com.hearo.signlanguage.domain;
+
+import com.hearo.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 수집 회차별 페이지 처리 기록
+ * - COMMITTED: 해당 페이지 upsert 와 같은 트랜잭션에서 기록 → 재개 시 건너뜀
+ * - FAILED: 재시도 소진 페이지 → 재개 시 가장 먼저 다시 시도
+ */
+@Entity
+@Table(name = "ingest_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ingest_ckpt_run_page", columnNames = {"run_id", "page_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IngestCheckpoint extends BaseTimeEntity {
+
+    public enum State { COMMITTED, FAILED }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private State state;
+
+    @Column(nullable = false)
+    private int items;
+
+    public static IngestCheckpoint of(Long runId, int pageNo, State state, int items) {
+        return IngestCheckpoint.builder()
+                .runId(runId)
+                .pageNo(pageNo)
+                .state(state)
+                .items(items)
+                .build();
+    }
+
+    public void mark(State state, int items) {
+        this.state = state;
+        this.items = items;
+    }
+}
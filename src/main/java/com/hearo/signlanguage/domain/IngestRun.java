@@ -0,0 +1,100 @@
+package com.hearo.signlanguage.domain;
+
+import com.hearo.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 데이터 수집 회차 (재개 단위)
+ * - 중단된 회차는 다음 실행에서 이어서 진행하며, 통계는 회차 전체 누적값
+ */
+@Entity
+@Table(name = "ingest_runs", indexes = {
+        @Index(name = "idx_ingest_run_source_created", columnList = "source, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IngestRun extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IngestStatus status;
+
+    @Column(nullable = false)
+    private int pageSize;
+
+    private Integer totalCount;         // 외부 API 가 알려준 전체 건수 (모르면 null)
+
+    @Column(nullable = false)
+    private int lastCommittedPage;      // 1 페이지부터 빈틈없이 반영된 마지막 페이지
+
+    @Column(nullable = false)
+    private int pagesCommitted;
+
+    @Column(nullable = false)
+    private int failedPages;
+
+    @Column(nullable = false)
+    private int totalFetched;
+
+    @Column(nullable = false)
+    private int inserted;
+
+    @Column(nullable = false)
+    private int updated;
+
+    @Column(nullable = false)
+    private int unchanged;
+
+    @Column(nullable = false)
+    private int resumeCount;
+
+    private LocalDateTime finishedAt;
+
+    private LocalDateTime heartbeatAt;  // 시작/페이지 반영 때마다 갱신 (실행 중인지 판단용)
+
+    @Column(length = 500)
+    private String message;
+
+    public static IngestRun start(String source, int pageSize) {
+        return IngestRun.builder()
+                .source(source)
+                .status(IngestStatus.RUNNING)
+                .pageSize(pageSize)
+                .heartbeatAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 다른 인스턴스(또는 겹친 스케줄)가 아직 돌리고 있는 회차 */
+    public boolean isLive(LocalDateTime staleBefore) {
+        return status == IngestStatus.RUNNING && heartbeatAt != null && heartbeatAt.isAfter(staleBefore);
+    }
+
+    public void recordPage(int fetched, int inserted, int updated, int unchanged, int lastCommittedPage) {
+        this.pagesCommitted++;
+        this.totalFetched += fetched;
+        this.inserted += inserted;
+        this.updated += updated;
+        this.unchanged += unchanged;
+        this.lastCommittedPage = Math.max(this.lastCommittedPage, lastCommittedPage);
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public void finish(IngestStatus status, Integer totalCount, int failedPages, String message) {
+        this.status = status;
+        if (totalCount != null) this.totalCount = totalCount;
+        this.failedPages = failedPages;
+        this.finishedAt = LocalDateTime.now();
+        this.message = (message != null && message.length() > 500) ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.hearo.signlanguage.domain;
+
+public enum IngestStatus {
+    RUNNING,          // 진행 중 (heartbeat 가 오래됐으면 중단된 회차)
+    COMPLETED,        // 모든 페이지 반영
+    PARTIAL,          // 끝까지 돌았으나 실패 페이지 남음
+    QUOTA_EXCEEDED,   // 일일 호출 한도 초과로 중단
+    FAILED;           // 쓰기 오류 등으로 중단
+
+    /** 끝났지만 남은 페이지가 있는 회차 (RUNNING 은 heartbeat 로 따로 판단) */
+    public boolean resumable() {
+        return this == PARTIAL || this == QUOTA_EXCEEDED || this == FAILED;
+    }
+}
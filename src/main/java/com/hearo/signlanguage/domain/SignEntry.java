@@ -4,14 +4,20 @@ import com.hearo.global.entity.BaseTimeEntity;
 import com.hearo.signlanguage.dto.SignItemDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 
 @Entity
 @Table(name = "sign_entries", indexes = {
         @Index(name = "idx_sign_local_id", columnList = "localId", unique = true),
-        @Index(name = "idx_sign_title", columnList = "title")
+        @Index(name = "idx_sign_title", columnList = "title"),
+        @Index(name = "idx_sign_row_version", columnList = "rowVersion, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,6 +57,24 @@ public class SignEntry extends BaseTimeEntity {
 
     private Integer viewCount;
 
+    @Column(length = 64)
+    private String contentHash;
+
+    // 내용이 실제로 바뀐 수집 청크의 버전 (증분 동기화 /changes?since= 기준, 수집 전 행은 0)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rowVersion;
+
+    // 즐겨찾기 수 (SignFavoriteCounter 가 모아서 반영, 수집 upsert 는 건드리지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long favoriteCount;
+
+    // 우리 서비스 상세 조회 수 (SignViewCounter 가 모아서 반영, 외부 viewCount 와 별개)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long localViewCount;
+
     public void updateFrom(SignItemDto dto) {
         this.title = dto.getTitle();
         this.videoUrl = dto.getVideoUrl();
@@ -61,7 +85,27 @@ public class SignEntry extends BaseTimeEntity {
         this.collectionDb = dto.getCollectionDb();
         this.categoryType = dto.getCategoryType();
         this.viewCount = dto.getViewCount();
+        this.contentHash = contentHashOf(dto);
+    }
+
+    /**
+     * 수집 응답 내용의 해시 (SHA-256 hex)
+     * - 수집 시 기존 해시와 같으면 DB 로 보내지 않음
+     * - 외부 viewCount 는 거의 매번 바뀌므로 제외 (따로 view_count 만 UPDATE, row_version 은 그대로)
+     */
+    public static String contentHashOf(SignItemDto dto) {
+        String joined = String.join("\u001F",
+                nvl(dto.getTitle()), nvl(dto.getVideoUrl()), nvl(dto.getThumbnailUrl()),
+                nvl(dto.getSignDescription()), String.join(",", safeList(dto.getImages())),
+                nvl(dto.getSourceUrl()), nvl(dto.getCollectionDb()), nvl(dto.getCategoryType()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
+    private static String nvl(String s) { return (s == null) ? "" : s; }
     private static List<String> safeList(List<String> in) { return (in == null) ? List.of() : in; }
 }
@@ -0,0 +1,30 @@
+package com.hearo.signlanguage.domain;
+
+import com.hearo.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 급상승(trending) 감쇠 점수 체크포인트
+ * - score 는 checkpointedAt 시점 기준 값, 재기동 시 경과 시간만큼 감쇠해서 복원
+ */
+@Entity
+@Table(name = "sign_trend_scores")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SignTrendScore extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "sign_entry_id")
+    private Long signEntryId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+}
@@ -1,14 +1,29 @@
 package com.hearo.signlanguage.dto;
 
+import com.hearo.signlanguage.domain.IngestStatus;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.util.List;
+
+/** 수집 결과 (재개된 회차면 이전 실행분까지 누적) */
 @Data
+@Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class IngestResultDto {
-    private int totalCount;
+    private Long runId;
+    private IngestStatus status;
+    private int resumeCount;
+    private int totalCount;         // 외부 API 전체 건수 (모르면 -1)
     private int totalFetched;
     private int inserted;
     private int updated;
+    private int unchanged;
+    private int pagesCommitted;
+    private int lastCommittedPage;
+    private List<Integer> failedPages;
     private int pageSize;
 }
@@ -0,0 +1,20 @@
+package com.hearo.signlanguage.dto;
+
+import com.hearo.signlanguage.catalog.SignCatalogEntry;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 증분 동기화 응답 ((version, id) 오름차순)
+ * - hasNext 면 nextSince 로 바로 다시 요청, 아니면 nextSince 를 저장해 두고 다음 동기화에 사용
+ */
+@Data
+@Builder
+public class SignChangesDto {
+    private long version;               // 응답 시점 서버 데이터셋 버전
+    private List<SignCatalogEntry> items;
+    private boolean hasNext;
+    private String nextSince;           // "버전:id"
+}
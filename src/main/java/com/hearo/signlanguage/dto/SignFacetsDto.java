@@ -0,0 +1,16 @@
+package com.hearo.signlanguage.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/** 분류/수집처 탐색용 값별 건수 (다른 필드 필터가 있으면 그 안에서 센 건수) */
+@Data
+@Builder
+public class SignFacetsDto {
+    private List<Count> categories;
+    private List<Count> collections;
+
+    public record Count(String value, int count) {}
+}
@@ -0,0 +1,27 @@
+package com.hearo.signlanguage.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** 목록/검색 한 줄 (본문/이미지는 상세에서만) */
+@Data
+@Builder
+public class SignListItemDto {
+    private Long id;
+    private String localId;
+    private String title;
+    private String thumbnailUrl;
+    private String categoryType;
+    private boolean favorite;      // 현재 사용자 기준 즐겨찾기 여부
+
+    public static SignListItemDto of(SignSummary s, boolean favorite) {
+        return SignListItemDto.builder()
+                .id(s.id())
+                .localId(s.localId())
+                .title(s.title())
+                .thumbnailUrl(s.thumbnailUrl())
+                .categoryType(s.categoryType())
+                .favorite(favorite)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.hearo.signlanguage.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SignSuggestionDto {
+    private Long id;
+    private String localId;
+    private String title;
+    private String thumbnailUrl;
+}
@@ -0,0 +1,13 @@
+package com.hearo.signlanguage.dto;
+
+/**
+ * 목록용 수어 요약 (JPQL 생성자 projection)
+ * - TEXT 컬럼(signDescription, imagesCsv)을 읽지 않고 엔티티도 만들지 않는다 → 영속성 컨텍스트/dirty checking 없음
+ */
+public record SignSummary(
+        Long id,
+        String localId,
+        String title,
+        String thumbnailUrl,
+        String categoryType
+) {}
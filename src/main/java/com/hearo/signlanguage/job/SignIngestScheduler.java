@@ -39,25 +39,43 @@ public class SignIngestScheduler {
             log.info("[SignIngestScheduler] disabled by property. skip.");
             return;
         }
+        runIngest("nightly");
+    }
+
+    // 기동 직후 + 주기적으로: 크래시/재배포로 끊긴 회차가 있으면 자정까지 기다리지 않고 이어감
+    @Scheduled(initialDelayString = "${sign.ingest.resume-check-initial-delay-ms:120000}",
+            fixedDelayString = "${sign.ingest.resume-check-ms:900000}")
+    public void resumeInterrupted() {
+        if (!enabled) return;
+        try {
+            if (!signService.hasInterruptedIngest(pageSize)) return;
+        } catch (Exception e) {
+            log.warn("[SignIngestScheduler] resume check failed: {}", e.toString());
+            return;
+        }
+        runIngest("resume");
+    }
 
+    private void runIngest(String trigger) {
         if (!lock.tryLock()) {
-            log.info("[SignIngestScheduler] another job is running. skip.");
+            log.info("[SignIngestScheduler] another job is running. skip {}.", trigger);
             return;
         }
 
         try {
-            log.info("[SignIngestScheduler] start. pageSize={}, mode={}",
-                    pageSize, useParallel ? "PARALLEL" : "SEQUENTIAL");
+            log.info("[SignIngestScheduler] start {}. pageSize={}, mode={}",
+                    trigger, pageSize, useParallel ? "PARALLEL" : "SEQUENTIAL");
 
             IngestResultDto result = useParallel
                     ? signService.ingestAllParallel(pageSize)
                     : signService.ingestAll(pageSize);
 
-            log.info("[SignIngestScheduler] done. fetched~={}, pageSize={}",
-                    result.getTotalFetched(), result.getPageSize());
+            log.info("[SignIngestScheduler] done. runId={}, status={}, resume={}, fetched={}, inserted={}, updated={}, unchanged={}, failedPages={}",
+                    result.getRunId(), result.getStatus(), result.getResumeCount(), result.getTotalFetched(),
+                    result.getInserted(), result.getUpdated(), result.getUnchanged(), result.getFailedPages());
 
         } catch (Exception e) {
-            log.warn("[SignIngestScheduler] failed: {}", e.toString(), e);
+            log.warn("[SignIngestScheduler] {} failed: {}", trigger, e.toString(), e);
         } finally {
             lock.unlock();
         }
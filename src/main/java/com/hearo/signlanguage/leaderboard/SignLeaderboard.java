@@ -0,0 +1,261 @@
+package com.hearo.signlanguage.leaderboard;
+
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import com.hearo.signlanguage.repository.SignTrendScoreBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기(popular) / 급상승(trending) 수어 순위
+ * - popular: 누적 점수 = 즐겨찾기 × FAVORITE_WEIGHT + 상세 조회 수
+ *   sign_entries 값(모든 인스턴스 합)을 주기적으로 다시 읽고, 그 뒤 이 인스턴스의 이벤트만 메모리에서 더한다
+ *   (카운터 flush 전 몇 초 분량의 오차는 다음 재적재에서 맞춰짐)
+ * - trending: 반감기 감쇠 점수. 이벤트 가중치에 e^(λ·(t - base)) 를 곱해 더하므로 순서 비교에 감쇠 계산이 필요 없다
+ * - 이벤트는 점수 맵만 갱신, 주기적으로 크기 K 최소 힙으로 top-K 를 뽑아 불변 목록으로 교체 → 조회는 상수 시간
+ * - trending 은 인스턴스마다 "마지막 체크포인트 이후 증분"만 sign_trend_scores 에 더하고(덮어쓰기 X),
+ *   체크포인트 직후 테이블 전체(모든 인스턴스 합)를 다시 읽어 메모리 점수를 맞춘다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignLeaderboard {
+
+    public static final int MAX_K = 100;
+
+    private static final long FAVORITE_WEIGHT = 10;
+    private static final double PRUNE_BELOW = 0.01;   // 이 값 아래로 감쇠한 trending 점수는 버림
+    private static final double REBASE_EXPONENT = 30; // e^30 을 넘기 전에 기준 시각을 옮겨 overflow 방지
+
+    private final SignEntryBulkRepository entryBulkRepo;
+    private final SignTrendScoreBulkRepository trendRepo;
+
+    @Value("${sign.leaderboard.trending-half-life-hours:24}")
+    private double halfLifeHours;
+
+    /** DB 기준 점수 + 그 뒤 이 인스턴스 이벤트, 재적재 때 통째로 교체 */
+    private record PopularScores(Map<Long, Long> seed, ConcurrentHashMap<Long, LongAdder> since) {
+        long score(Long id) {
+            LongAdder a = since.get(id);
+            return seed.getOrDefault(id, 0L) + ((a == null) ? 0 : a.sum());
+        }
+    }
+
+    private volatile PopularScores popular = new PopularScores(Map.of(), new ConcurrentHashMap<>());
+    private final ConcurrentHashMap<Long, Double> trending = new ConcurrentHashMap<>();
+    // 마지막 체크포인트 이후 이 인스턴스에서 생긴 trending 증분 (trending 과 같은 기준 시각 스케일)
+    private final ConcurrentHashMap<Long, Double> unflushed = new ConcurrentHashMap<>();
+
+    // 이벤트(읽기 락)끼리는 동시에, 기준 시각 이동(쓰기 락)은 단독으로
+    private final ReentrantReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private volatile long baseMillis = System.currentTimeMillis();
+
+    private volatile List<Long> popularTop = List.of();
+    private volatile List<Long> trendingTop = List.of();
+
+    /* ================= 이벤트 ================= */
+
+    public void onFavorite(Long signId, int delta) {
+        popular.since().computeIfAbsent(signId, k -> new LongAdder()).add(delta * FAVORITE_WEIGHT);
+        addTrending(signId, delta * (double) FAVORITE_WEIGHT);
+    }
+
+    public void onView(Long signId) {
+        popular.since().computeIfAbsent(signId, k -> new LongAdder()).increment();
+        addTrending(signId, 1);
+    }
+
+    private void addTrending(Long signId, double weight) {
+        rebaseLock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(lambdaPerMilli() * (System.currentTimeMillis() - baseMillis));
+            trending.merge(signId, scaled, Double::sum);
+            unflushed.merge(signId, scaled, Double::sum);
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    /* ================= 조회 ================= */
+
+    public List<Long> popular(int limit) {
+        return head(popularTop, limit);
+    }
+
+    public List<Long> trending(int limit) {
+        return head(trendingTop, limit);
+    }
+
+    private static List<Long> head(List<Long> top, int limit) {
+        return top.subList(0, Math.max(0, Math.min(limit, top.size())));
+    }
+
+    /* ================= 주기 작업 ================= */
+
+    @Scheduled(fixedDelayString = "${sign.leaderboard.refresh-ms:5000}")
+    public void refresh() {
+        rebaseIfNeeded();
+        PopularScores p = popular;
+        Map<Long, Double> popularScores = new HashMap<>((p.seed().size() + p.since().size()) * 2);
+        p.seed().keySet().forEach(id -> popularScores.put(id, (double) p.score(id)));
+        p.since().keySet().forEach(id -> popularScores.put(id, (double) p.score(id)));
+        popularTop = topK(popularScores);
+        trendingTop = topK(trending);
+    }
+
+    @Scheduled(fixedDelayString = "${sign.leaderboard.checkpoint-ms:300000}")
+    public synchronized void checkpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = epochMillis(now);
+        Map<Long, Double> delta = new HashMap<>();
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-lambdaPerMilli() * (nowMillis - baseMillis));
+            unflushed.forEach((id, v) -> delta.put(id, v * factor));
+            unflushed.clear();
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+
+        try {
+            trendRepo.mergeAll(delta, now, lambdaPerSecond());
+        } catch (RuntimeException e) {
+            // 다음 체크포인트에 다시 더함
+            requeue(delta, nowMillis);
+            throw e;
+        }
+        int pruned = trendRepo.deleteDecayedBelow(PRUNE_BELOW, now, lambdaPerSecond());
+        reloadTrending();
+        log.info("[SignLeaderboard] checkpoint. merged={} pruned={} trending={}", delta.size(), pruned, trending.size());
+    }
+
+    /** 다른 인스턴스의 즐겨찾기/조회까지 반영된 sign_entries 값으로 popular 기준 점수 교체 */
+    @Scheduled(fixedDelayString = "${sign.leaderboard.popular-reseed-ms:300000}",
+            initialDelayString = "${sign.leaderboard.popular-reseed-ms:300000}")
+    public void reseedPopular() {
+        try {
+            loadPopular();
+        } catch (RuntimeException e) {
+            log.warn("[SignLeaderboard] popular reseed failed, keep current scores: {}", e.toString());
+        }
+    }
+
+    private void loadPopular() {
+        Map<Long, Long> seed = new HashMap<>();
+        entryBulkRepo.loadEngagement().forEach((id, counts) -> seed.put(id, counts[0] * FAVORITE_WEIGHT + counts[1]));
+        popular = new PopularScores(seed, new ConcurrentHashMap<>());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            loadPopular();
+            baseMillis = System.currentTimeMillis();
+            reloadTrending();
+            refresh();
+            log.info("[SignLeaderboard] loaded. popular={} trending={}", popular.seed().size(), trending.size());
+        } catch (Exception e) {
+            log.warn("[SignLeaderboard] initial load failed: {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("[SignLeaderboard] shutdown checkpoint failed: {}", e.toString());
+        }
+    }
+
+    /* ================= 내부 헬퍼 ================= */
+
+    private double lambdaPerMilli() {
+        return Math.log(2) / (halfLifeHours * 3_600_000d);
+    }
+
+    private double lambdaPerSecond() {
+        return lambdaPerMilli() * 1000;
+    }
+
+    private static long epochMillis(LocalDateTime t) {
+        return t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /** 테이블 합계 + 아직 안 보낸 증분으로 메모리 점수 교체 (감쇠돼 사라진 항목도 여기서 빠짐) */
+    private void reloadTrending() {
+        List<SignTrendScoreBulkRepository.Row> rows = trendRepo.loadAll();
+        rebaseLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            Map<Long, Double> next = new HashMap<>();
+            for (var row : rows) {
+                long at = epochMillis(row.checkpointedAt());
+                if (row.score() * Math.exp(-lambdaPerMilli() * Math.max(now - at, 0)) < PRUNE_BELOW) continue;
+                next.merge(row.signEntryId(), row.score() * Math.exp(lambdaPerMilli() * (at - baseMillis)), Double::sum);
+            }
+            unflushed.forEach((id, v) -> next.merge(id, v, Double::sum));
+            trending.keySet().retainAll(next.keySet());
+            trending.putAll(next);
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    /** 병합 실패한 증분(atMillis 시점 값)을 현재 기준 시각 스케일로 되돌려 넣음 */
+    private void requeue(Map<Long, Double> delta, long atMillis) {
+        rebaseLock.readLock().lock();
+        try {
+            double scale = Math.exp(lambdaPerMilli() * (atMillis - baseMillis));
+            delta.forEach((id, v) -> unflushed.merge(id, v * scale, Double::sum));
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    /** 기준 시각을 지금으로 옮기고 모든 점수를 같은 비율로 줄임 (순서는 그대로) */
+    private void rebaseIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (lambdaPerMilli() * (now - baseMillis) < REBASE_EXPONENT) return;
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-lambdaPerMilli() * (now - baseMillis));
+            trending.replaceAll((id, v) -> v * factor);
+            unflushed.replaceAll((id, v) -> v * factor);
+            baseMillis = now;
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    /** 크기 K 최소 힙으로 상위 K 개 (점수 내림차순, 같으면 id 내림차순) */
+    private static List<Long> topK(Map<Long, Double> scores) {
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(MAX_K + 1, order);
+        for (Map.Entry<Long, Double> e : scores.entrySet()) {
+            if (e.getValue() <= 0) continue;
+            if (heap.size() < MAX_K) {
+                heap.add(Map.entry(e.getKey(), e.getValue()));
+            } else if (order.compare(e, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+        List<Map.Entry<Long, Double>> sorted = new ArrayList<>(heap);
+        sorted.sort(order.reversed());
+        return sorted.stream().map(Map.Entry::getKey).toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.hearo.signlanguage.repository;
+
+import com.hearo.signlanguage.domain.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, Long> {
+
+    Optional<IngestCheckpoint> findByRunIdAndPageNo(Long runId, int pageNo);
+
+    @Query("select c.pageNo from IngestCheckpoint c where c.runId = :runId and c.state = :state order by c.pageNo")
+    List<Integer> findPageNos(@Param("runId") Long runId, @Param("state") IngestCheckpoint.State state);
+}
@@ -0,0 +1,33 @@
+package com.hearo.signlanguage.repository;
+
+import com.hearo.signlanguage.domain.IngestRun;
+import com.hearo.signlanguage.domain.IngestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IngestRunRepository extends JpaRepository<IngestRun, Long> {
+
+    Optional<IngestRun> findFirstBySourceOrderByIdDesc(String source);
+
+    /**
+     * 회차 이어받기 (조건부 UPDATE 한 문장) — 실행 중이 아니거나 heartbeat 가 오래된 경우에만 1
+     * - 두 인스턴스가 동시에 시도해도 한 쪽만 성공
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+      update IngestRun r
+         set r.status = :running, r.heartbeatAt = :now, r.resumeCount = r.resumeCount + 1,
+             r.finishedAt = null, r.message = null
+       where r.id = :id
+         and (r.status <> :running or r.heartbeatAt is null or r.heartbeatAt < :staleBefore)
+    """)
+    int claim(@Param("id") Long id,
+              @Param("running") IngestStatus running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+}
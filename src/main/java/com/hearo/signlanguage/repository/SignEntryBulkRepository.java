@@ -9,7 +9,10 @@ import org.springframework.stereotype.Repository;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -17,12 +20,17 @@ public class SignEntryBulkRepository {
 
     private final JdbcTemplate jdbc;
 
-    private static final String UPSERT_SQL = """
+    private static final String INSERT_HEAD = """
         INSERT INTO sign_entries
           (local_id, title, video_url, thumbnail_url, sign_description, images_csv,
-           source_url, collection_db, category_type, view_count, created_at, modified_at)
+           source_url, collection_db, category_type, view_count, content_hash, row_version, created_at, modified_at)
         VALUES
-          (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+        """;
+
+    private static final String ROW_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+
+    private static final String UPSERT_TAIL = """
+
         ON DUPLICATE KEY UPDATE
           title = VALUES(title),
           video_url = VALUES(video_url),
@@ -33,42 +41,175 @@ public class SignEntryBulkRepository {
           collection_db = VALUES(collection_db),
           category_type = VALUES(category_type),
           view_count = VALUES(view_count),
+          content_hash = VALUES(content_hash),
+          row_version = VALUES(row_version),
           modified_at = NOW()
         """;
 
-    public int[] upsertBatch(List<SignItemDto> items) {
-        if (items == null || items.isEmpty()) return new int[0];
-
-        return jdbc.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SignItemDto it = items.get(i);
-
-                ps.setString(1,  it.getLocalId());
-                ps.setString(2,  it.getTitle());
-                ps.setString(3,  it.getVideoUrl());
-                ps.setString(4,  it.getThumbnailUrl());
-                ps.setString(5,  it.getSignDescription());
-
-                String imagesCsv = (it.getImages() == null || it.getImages().isEmpty())
-                        ? "" : String.join(",", it.getImages());
-                ps.setString(6,  imagesCsv);
-
-                ps.setString(7,  it.getSourceUrl());
-                ps.setString(8,  it.getCollectionDb());
-                ps.setString(9,  it.getCategoryType());
-
-                if (it.getViewCount() == null) {
-                    ps.setNull(10, Types.INTEGER);
-                } else {
-                    ps.setInt(10, it.getViewCount());
-                }
-            }
+    private static final int PARAMS_PER_ROW = 12;
+
+    /** 즐겨찾기 증감분 일괄 반영 (signId -> delta) */
+    public int[] addFavoriteCounts(Map<Long, Long> deltas) {
+        return addCounts("UPDATE sign_entries SET favorite_count = GREATEST(favorite_count + ?, 0) WHERE id = ?", deltas);
+    }
+
+    /** (delta, id) 순서 파라미터의 UPDATE 를 한 번의 JDBC 배치로 */
+    private int[] addCounts(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return new int[0];
+        List<Map.Entry<Long, Long>> rows = List.copyOf(deltas.entrySet());
+        return jdbc.batchUpdate(sql,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, rows.get(i).getValue());
+                        ps.setLong(2, rows.get(i).getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    /** 상세 조회 수 증감분 일괄 반영 (signId -> delta) */
+    public int[] addLocalViewCounts(Map<Long, Long> deltas) {
+        return addCounts("UPDATE sign_entries SET local_view_count = local_view_count + ? WHERE id = ?", deltas);
+    }
+
+    /** 조회용 favorite_count 적재: signId -> favorite_count (0 인 행 제외) */
+    public Map<Long, Long> loadFavoriteCounts() {
+        Map<Long, Long> map = new HashMap<>();
+        jdbc.query("SELECT id, favorite_count FROM sign_entries WHERE favorite_count <> 0",
+                rs -> { map.put(rs.getLong(1), rs.getLong(2)); });
+        return map;
+    }
+
+    /**
+     * sign_favorites 실제 수와 favorite_count 의 차이: signId -> (COUNT - favorite_count), 같은 행 제외
+     * - 한 문장이라 두 값이 같은 시점 기준 (잠금 없는 일관 읽기)
+     */
+    public Map<Long, Long> loadFavoriteDrift() {
+        Map<Long, Long> map = new HashMap<>();
+        jdbc.query("""
+                SELECT s.id, COALESCE(f.cnt, 0) - s.favorite_count
+                FROM sign_entries s
+                LEFT JOIN (SELECT sign_entry_id, COUNT(*) AS cnt FROM sign_favorites GROUP BY sign_entry_id) f
+                  ON f.sign_entry_id = s.id
+                WHERE s.favorite_count <> COALESCE(f.cnt, 0)
+                """,
+                rs -> { map.put(rs.getLong(1), rs.getLong(2)); });
+        return map;
+    }
+
+    /** 인기 순위 초기값: signId -> [favorite_count, local_view_count] (둘 다 0 인 행 제외) */
+    public Map<Long, long[]> loadEngagement() {
+        Map<Long, long[]> map = new HashMap<>();
+        jdbc.query("SELECT id, favorite_count, local_view_count FROM sign_entries "
+                        + "WHERE favorite_count > 0 OR local_view_count > 0",
+                rs -> { map.put(rs.getLong(1), new long[]{ rs.getLong(2), rs.getLong(3) }); });
+        return map;
+    }
+
+    /** 변경 감지용 기존 행 상태 (해시 없는 기존 행은 contentHash null) */
+    public record KnownRow(String contentHash, Integer viewCount) {}
 
-            @Override
-            public int getBatchSize() {
-                return items.size();
+    /** 수집 시작 시 localId -> (content_hash, view_count) */
+    public Map<String, KnownRow> loadKnownRows() {
+        Map<String, KnownRow> map = new HashMap<>();
+        jdbc.query("SELECT local_id, content_hash, view_count FROM sign_entries",
+                rs -> { map.put(rs.getString(1), new KnownRow(rs.getString(2), (Integer) rs.getObject(3, Integer.class))); });
+        return map;
+    }
+
+    /** 내용은 같고 외부 viewCount 만 바뀐 행 (localId -> viewCount), row_version 은 건드리지 않음 */
+    public int[] updateViewCounts(Map<String, Integer> viewCounts) {
+        if (viewCounts.isEmpty()) return new int[0];
+        List<Map.Entry<String, Integer>> rows = new ArrayList<>(viewCounts.entrySet());
+        return jdbc.batchUpdate("UPDATE sign_entries SET view_count = ? WHERE local_id = ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Integer v = rows.get(i).getValue();
+                        if (v == null) ps.setNull(1, Types.INTEGER);
+                        else ps.setInt(1, v);
+                        ps.setString(2, rows.get(i).getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    /** 지금까지 기록된 가장 큰 row_version (새 수집 버전은 이보다 커야 함) */
+    public long loadMaxRowVersion() {
+        Long max = jdbc.queryForObject("SELECT COALESCE(MAX(row_version), 0) FROM sign_entries", Long.class);
+        return (max == null) ? 0 : max;
+    }
+
+    /** 카탈로그 증분 반영용: row_version 이 version 보다 큰 행의 localId (idx_sign_row_version) */
+    public List<String> loadLocalIdsChangedAfter(long version) {
+        return jdbc.queryForList("SELECT local_id FROM sign_entries WHERE row_version > ?", String.class, version);
+    }
+
+    /** 카탈로그 최신 여부 확인용 (최대 row_version, 전체 건수) */
+    public record CatalogStamp(long maxRowVersion, long count) {}
+
+    public CatalogStamp loadCatalogStamp() {
+        return jdbc.queryForObject("SELECT COALESCE(MAX(row_version), 0), COUNT(*) FROM sign_entries",
+                (rs, i) -> new CatalogStamp(rs.getLong(1), rs.getLong(2)));
+    }
+
+    /**
+     * 여러 행을 한 문장으로 upsert (호출부에서 청크 크기를 제한)
+     * - 호출부는 내용이 바뀐 행만 보내므로 row_version 은 실제 변경이 있었던 행에만 찍힌다
+     * @param contentHashes items 와 같은 순서의 content_hash
+     * @param rowVersion 이 청크에 찍을 버전 (이전 청크보다 커야 함)
+     */
+    public int upsertBatch(List<SignItemDto> items, List<String> contentHashes, long rowVersion) {
+        if (items == null || items.isEmpty()) return 0;
+        if (contentHashes.size() != items.size()) {
+            throw new IllegalArgumentException("items/contentHashes 크기가 다릅니다.");
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_HEAD);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) sql.append(",\n");
+            sql.append(ROW_VALUES);
+        }
+        sql.append(UPSERT_TAIL);
+
+        return jdbc.update(sql.toString(), ps -> {
+            for (int i = 0; i < items.size(); i++) {
+                bindRow(ps, i * PARAMS_PER_ROW, items.get(i), contentHashes.get(i), rowVersion);
             }
         });
     }
+
+    private static void bindRow(PreparedStatement ps, int offset, SignItemDto it, String contentHash,
+                                long rowVersion) throws SQLException {
+        ps.setString(offset + 1,  it.getLocalId());
+        ps.setString(offset + 2,  it.getTitle());
+        ps.setString(offset + 3,  it.getVideoUrl());
+        ps.setString(offset + 4,  it.getThumbnailUrl());
+        ps.setString(offset + 5,  it.getSignDescription());
+
+        String imagesCsv = (it.getImages() == null || it.getImages().isEmpty())
+                ? "" : String.join(",", it.getImages());
+        ps.setString(offset + 6,  imagesCsv);
+
+        ps.setString(offset + 7,  it.getSourceUrl());
+        ps.setString(offset + 8,  it.getCollectionDb());
+        ps.setString(offset + 9,  it.getCategoryType());
+
+        if (it.getViewCount() == null) {
+            ps.setNull(offset + 10, Types.INTEGER);
+        } else {
+            ps.setInt(offset + 10, it.getViewCount());
+        }
+        ps.setString(offset + 11, contentHash);
+        ps.setLong(offset + 12, rowVersion);
+    }
 }
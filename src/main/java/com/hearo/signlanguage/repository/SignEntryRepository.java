@@ -1,28 +1,87 @@
 package com.hearo.signlanguage.repository;
 
 import com.hearo.signlanguage.domain.SignEntry;
+import com.hearo.signlanguage.dto.SignSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
 
 public interface SignEntryRepository extends JpaRepository<SignEntry, Long> {
 
     Optional<SignEntry> findByLocalId(String localId);
 
-    Page<SignEntry> findByTitleContaining(String keyword, Pageable pageable);
+    // ===== 목록용 요약 projection (카탈로그가 비어 있을 때만 사용) =====
+    @Query(value = """
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+    """, countQuery = "select count(s) from SignEntry s")
+    Page<SignSummary> findSummaries(Pageable pageable);
+
+    @Query(value = """
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+      where s.title like concat('%', :keyword, '%')
+    """, countQuery = "select count(s) from SignEntry s where s.title like concat('%', :keyword, '%')")
+    Page<SignSummary> searchSummaries(@Param("keyword") String keyword, Pageable pageable);
+
+    // 분류/수집처 필터 (null 인 조건은 무시)
+    @Query(value = """
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+      where (:category is null or s.categoryType = :category)
+        and (:collection is null or s.collectionDb = :collection)
+    """, countQuery = """
+      select count(s) from SignEntry s
+      where (:category is null or s.categoryType = :category)
+        and (:collection is null or s.collectionDb = :collection)
+    """)
+    Page<SignSummary> findSummariesByFacet(@Param("category") String category,
+                                           @Param("collection") String collection,
+                                           Pageable pageable);
+
+    // 커서 조회 (List 반환이라 count 쿼리 없음)
+    @Query("""
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+      where s.id < :id
+      order by s.id desc
+    """)
+    List<SignSummary> findSummariesBefore(@Param("id") Long id, Pageable pageable);
+
+    @Query("""
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+      where (:category is null or s.categoryType = :category)
+        and (:collection is null or s.collectionDb = :collection)
+        and s.id < :id
+      order by s.id desc
+    """)
+    List<SignSummary> findSummariesByFacetBefore(@Param("category") String category,
+                                                 @Param("collection") String collection,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("""
+      select new com.hearo.signlanguage.dto.SignSummary(s.id, s.localId, s.title, s.thumbnailUrl, s.categoryType)
+      from SignEntry s
+      where s.title like concat('%', :keyword, '%') and s.id < :id
+      order by s.id desc
+    """)
+    List<SignSummary> searchSummariesBefore(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    // 증분 동기화 (카탈로그가 비어 있을 때만 사용, idx_sign_row_version)
+    @Query("""
+      select s from SignEntry s
+      where s.rowVersion > :version or (s.rowVersion = :version and s.id > :id)
+      order by s.rowVersion asc, s.id asc
+    """)
+    List<SignEntry> findChangedAfter(@Param("version") long version, @Param("id") long id, Pageable pageable);
 
     @Query("select s from SignEntry s where s.localId in :localIds")
     List<SignEntry> findAllByLocalIdIn(@Param("localIds") List<String> localIds);
-
-    default Map<String, SignEntry> findAllByIdOrLocalId(List<String> localIds) {
-        if (localIds == null || localIds.isEmpty()) return Map.of();
-        var list = findAllByLocalIdIn(localIds);
-        var map = new HashMap<String, SignEntry>(list.size() * 2);
-        for (var s : list) map.put(s.getLocalId(), s);
-        return map;
-    }
 }
@@ -5,15 +5,29 @@ import com.hearo.signlanguage.dto.SignFavoriteRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface SignFavoriteRepository extends JpaRepository<SignFavorite, Long> {
 
-    boolean existsByUserIdAndSignEntryId(Long userId, Long signEntryId);
+    // 사용자별 즐겨찾기 id 캐시 적재용
+    @Query("select f.signEntry.id from SignFavorite f where f.userId = :userId")
+    List<Long> findSignEntryIdsByUserId(@Param("userId") Long userId);
 
-    long countBySignEntryId(Long signEntryId);
+    // 이미 있으면 0 (uk_sign_fav_user_sign), 조회 없이 한 문장
+    @Modifying
+    @Query(value = """
+      INSERT IGNORE INTO sign_favorites (user_id, sign_entry_id, created_at, modified_at)
+      VALUES (:userId, :signEntryId, NOW(), NOW())
+    """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("signEntryId") Long signEntryId);
 
-    void deleteByUserIdAndSignEntryId(Long userId, Long signEntryId);
+    @Modifying
+    @Query("delete from SignFavorite f where f.userId = :userId and f.signEntry.id = :signEntryId")
+    int deleteFavorite(@Param("userId") Long userId, @Param("signEntryId") Long signEntryId);
 
     // 마이페이지 목록: 내가 찜한 수어 + 찜한 시각 (최신순)
     @Query("""
@@ -0,0 +1,71 @@
+package com.hearo.signlanguage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SignTrendScoreBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * 인스턴스별 증분을 더하는 병합 (다른 인스턴스가 먼저 쓴 값을 덮어쓰지 않음)
+     * - 두 값을 더 늦은 checkpointed_at 시점으로 감쇠해서 합산, score 를 checkpointed_at 보다 먼저 대입해야 한다
+     */
+    private static final String MERGE_SQL = """
+        INSERT INTO sign_trend_scores (sign_entry_id, score, checkpointed_at, created_at, modified_at)
+        VALUES (?, ?, ?, NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+          score = score * EXP(-? * GREATEST(TIMESTAMPDIFF(SECOND, checkpointed_at, VALUES(checkpointed_at)), 0))
+                + VALUES(score) * EXP(-? * GREATEST(TIMESTAMPDIFF(SECOND, VALUES(checkpointed_at), checkpointed_at), 0)),
+          checkpointed_at = GREATEST(checkpointed_at, VALUES(checkpointed_at)),
+          modified_at = NOW()
+        """;
+
+    public record Row(long signEntryId, double score, LocalDateTime checkpointedAt) {}
+
+    /** deltas: checkpointedAt 시점 기준 증분, lambdaPerSecond: 감쇠 상수 */
+    public int[] mergeAll(Map<Long, Double> deltas, LocalDateTime checkpointedAt, double lambdaPerSecond) {
+        if (deltas.isEmpty()) return new int[0];
+        List<Map.Entry<Long, Double>> rows = List.copyOf(deltas.entrySet());
+        Timestamp at = Timestamp.valueOf(checkpointedAt);
+        return jdbc.batchUpdate(MERGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, rows.get(i).getKey());
+                ps.setDouble(2, rows.get(i).getValue());
+                ps.setTimestamp(3, at);
+                ps.setDouble(4, lambdaPerSecond);
+                ps.setDouble(5, lambdaPerSecond);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /** at 시점까지 감쇠한 점수가 threshold 아래인 행 정리 */
+    public int deleteDecayedBelow(double threshold, LocalDateTime at, double lambdaPerSecond) {
+        return jdbc.update("""
+            DELETE FROM sign_trend_scores
+            WHERE score * EXP(-? * GREATEST(TIMESTAMPDIFF(SECOND, checkpointed_at, ?), 0)) < ?
+            """, lambdaPerSecond, Timestamp.valueOf(at), threshold);
+    }
+
+    public List<Row> loadAll() {
+        return jdbc.query("SELECT sign_entry_id, score, checkpointed_at FROM sign_trend_scores",
+                (rs, i) -> new Row(rs.getLong(1), rs.getDouble(2), rs.getTimestamp(3).toLocalDateTime()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.signlanguage.domain.IngestCheckpoint;
+import com.hearo.signlanguage.domain.IngestRun;
+import com.hearo.signlanguage.domain.IngestStatus;
+import com.hearo.signlanguage.repository.IngestCheckpointRepository;
+import com.hearo.signlanguage.repository.IngestRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 수집 회차/체크포인트 기록
+ * - 마지막 회차가 끝나지 않았고(중단/한도 초과/실패 페이지) 재개 가능 기간 안이면 그 회차를 이어서 진행
+ * - 재개 가능 기간은 스케줄 주기(매일)보다 짧게 → 지난 회차가 PARTIAL 이어도 다음 정기 실행은 1 페이지부터 전체 갱신
+ *   (한도 초과 회차만 예외: 한도가 풀리는 다음 정기 실행에서 이어가도록 하루보다 길게)
+ * - 크래시/재배포로 끊긴 회차는 findInterrupted 로 찾아 정기 실행을 기다리지 않고 이어간다
+ * - heartbeat 가 살아 있는 RUNNING 회차는 건드리지 않고, 이어받기는 조건부 UPDATE 로 한 곳만 성공
+ * - recordCommitted 는 페이지 upsert 와 같은 트랜잭션에 참여해야 한다 (호출부 트랜잭션에 합류)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IngestRunService {
+
+    private final IngestRunRepository runRepo;
+    private final IngestCheckpointRepository checkpointRepo;
+
+    @Value("${sign.ingest.resume-window-hours:20}")
+    private long resumeWindowHours;
+
+    @Value("${sign.ingest.quota-resume-window-hours:30}")
+    private long quotaResumeWindowHours;
+
+    @Value("${sign.ingest.heartbeat-stale-minutes:15}")
+    private long heartbeatStaleMinutes;
+
+    @Transactional
+    public IngestRun startOrResume(String source, int pageSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusMinutes(heartbeatStaleMinutes);
+        var last = runRepo.findFirstBySourceOrderByIdDesc(source).orElse(null);
+        if (last != null && last.isLive(staleBefore)) {
+            throw new IllegalStateException("다른 곳에서 수어 수집이 진행 중입니다. runId=" + last.getId());
+        }
+        if (last != null && canResume(last, pageSize, now)) {
+            if (runRepo.claim(last.getId(), IngestStatus.RUNNING, now, staleBefore) == 0) {
+                throw new IllegalStateException("다른 곳에서 수어 수집 회차를 이어받았습니다. runId=" + last.getId());
+            }
+            IngestRun claimed = runRepo.findById(last.getId()).orElseThrow();
+            log.info("[IngestRun] resume runId={} status={} lastCommittedPage={} pagesCommitted={}",
+                    claimed.getId(), last.getStatus(), claimed.getLastCommittedPage(), claimed.getPagesCommitted());
+            return claimed;
+        }
+        return runRepo.save(IngestRun.start(source, pageSize));
+    }
+
+    /** 지금 바로 이어갈 끊긴 회차 (heartbeat 끊긴 RUNNING / PARTIAL / FAILED), 한도 초과는 한도가 풀려야 하므로 제외 */
+    @Transactional(readOnly = true)
+    public Optional<IngestRun> findInterrupted(String source, int pageSize) {
+        LocalDateTime now = LocalDateTime.now();
+        return runRepo.findFirstBySourceOrderByIdDesc(source)
+                .filter(r -> r.getStatus() != IngestStatus.QUOTA_EXCEEDED)
+                .filter(r -> canResume(r, pageSize, now));
+    }
+
+    private boolean canResume(IngestRun last, int pageSize, LocalDateTime now) {
+        if (last.isLive(now.minusMinutes(heartbeatStaleMinutes))) return false;
+        if (!last.getStatus().resumable() && last.getStatus() != IngestStatus.RUNNING) return false;
+        if (last.getPageSize() != pageSize) return false;
+        long windowHours = (last.getStatus() == IngestStatus.QUOTA_EXCEEDED) ? quotaResumeWindowHours : resumeWindowHours;
+        return last.getCreatedAt().isAfter(now.minusHours(windowHours));
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Integer> committedPages(Long runId) {
+        return new HashSet<>(checkpointRepo.findPageNos(runId, IngestCheckpoint.State.COMMITTED));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Integer> failedPages(Long runId) {
+        return checkpointRepo.findPageNos(runId, IngestCheckpoint.State.FAILED);
+    }
+
+    /** 페이지 반영 기록 (호출부의 페이지 트랜잭션에 합류) */
+    @Transactional
+    public void recordCommitted(Long runId, int pageNo, int fetched, int inserted, int updated, int unchanged,
+                                int lastContiguousPage) {
+        upsertCheckpoint(runId, pageNo, IngestCheckpoint.State.COMMITTED, fetched);
+        runRepo.findById(runId).ifPresent(run ->
+                run.recordPage(fetched, inserted, updated, unchanged, lastContiguousPage));
+    }
+
+    /** 이번 실행의 실패 페이지를 기록하고 회차 종료 (실패 수는 지난 실행에서 남은 것까지 포함) */
+    @Transactional
+    public IngestRun finish(Long runId, IngestStatus status, Integer totalCount, List<Integer> failedPages, String message) {
+        for (Integer p : failedPages) upsertCheckpoint(runId, p, IngestCheckpoint.State.FAILED, 0);
+        IngestRun run = runRepo.findById(runId).orElseThrow(() ->
+                new IllegalStateException("수집 회차를 찾을 수 없습니다. runId=" + runId));
+        int failedCount = checkpointRepo.findPageNos(runId, IngestCheckpoint.State.FAILED).size();
+        if (status == IngestStatus.COMPLETED && failedCount > 0) status = IngestStatus.PARTIAL;
+        run.finish(status, totalCount, failedCount, message);
+        return run;
+    }
+
+    private void upsertCheckpoint(Long runId, int pageNo, IngestCheckpoint.State state, int items) {
+        checkpointRepo.findByRunIdAndPageNo(runId, pageNo).ifPresentOrElse(
+                c -> c.mark(state, items),
+                () -> checkpointRepo.save(IngestCheckpoint.of(runId, pageNo, state, items)));
+    }
+}
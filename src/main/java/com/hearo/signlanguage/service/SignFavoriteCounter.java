@@ -0,0 +1,180 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.global.counter.DeltaBuffer;
+import com.hearo.global.lock.DbLock;
+import com.hearo.global.tx.AfterCommit;
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 수어 즐겨찾기 수 (sign_entries.favorite_count) write-behind 버퍼
+ * - 토글은 커밋 후 증감만 쌓고, 주기적으로 UPDATE ... favorite_count + ? 배치로 반영
+ * - 조회 값 = 주기적으로 읽어 둔 favorite_count + 이 인스턴스가 그 뒤에 쌓은 증감
+ *   (다른 인스턴스의 토글은 그쪽 flush 이후 다음 갱신 때 보임)
+ * - 유실분(반영 전 종료 등)은 야간 보정으로 맞춘다
+ *   · 한 인스턴스만 실행 (DB 락)
+ *   · 절대값으로 덮지 않고 차이만 더함 → 다른 인스턴스의 미반영 증감을 이중으로 세지 않음
+ *   · 차이는 flush 주기보다 긴 간격으로 두 번 읽어 같게 나온 항목만 보정 (반영 대기 중인 토글로 생긴 일시적 차이 제외)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignFavoriteCounter {
+
+    private static final String RECONCILE_LOCK = "sign-favorite-reconcile";
+
+    private final SignEntryBulkRepository bulkRepo;
+    private final DbLock dbLock;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    // 마지막으로 읽은 favorite_count + 그 뒤 이 인스턴스에서 커밋된 증감
+    private volatile Map<Long, Long> stored = Map.of();
+    private volatile ConcurrentHashMap<Long, LongAdder> sinceRefresh = new ConcurrentHashMap<>();
+    // 갱신 시 sinceRefresh 교체와 pending 비우기를 한 번에 (그 사이 토글이 양쪽에서 빠지거나 겹치지 않게)
+    private final ReentrantReadWriteLock refreshLock = new ReentrantReadWriteLock();
+
+    @Value("${sign.favorite.reconcile-settle-ms:10000}")
+    private long reconcileSettleMs;
+
+    public long count(Long signId) {
+        long base = stored.getOrDefault(signId, 0L);
+        LongAdder local = sinceRefresh.get(signId);
+        return Math.max(base + ((local == null) ? 0 : local.sum()), 0);
+    }
+
+    /** 트랜잭션 안이면 커밋 후에 반영 (롤백된 토글은 세지 않음) */
+    public void add(Long signId, long delta) {
+        if (delta == 0) return;
+        AfterCommit.run(() -> apply(signId, delta));
+    }
+
+    private void apply(Long signId, long delta) {
+        refreshLock.readLock().lock();
+        try {
+            pending.add(signId, delta);
+            sinceRefresh.computeIfAbsent(signId, k -> new LongAdder()).add(delta);
+        } finally {
+            refreshLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sign.favorite.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            bulkRepo.addFavoriteCounts(deltas);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            pending.requeue(deltas);
+            log.warn("[SignFavoriteCounter] flush failed, requeue {} rows: {}", deltas.size(), e.toString());
+        }
+    }
+
+    /**
+     * 조회용 favorite_count 다시 읽기
+     * - 쌓인 증감을 먼저 반영한 뒤 읽으므로, 교체된 sinceRefresh 의 증감은 모두 새 값에 들어 있다
+     * - 반영/읽기에 실패하면 꺼낸 증감을 되돌리고 기존 값 유지
+     */
+    @Scheduled(fixedDelayString = "${sign.favorite.refresh-ms:60000}",
+            initialDelayString = "${sign.favorite.refresh-ms:60000}")
+    public synchronized void refresh() {
+        ConcurrentHashMap<Long, LongAdder> carried;
+        Map<Long, Long> deltas;
+        refreshLock.writeLock().lock();
+        try {
+            carried = sinceRefresh;
+            sinceRefresh = new ConcurrentHashMap<>();
+            deltas = pending.drain();
+        } finally {
+            refreshLock.writeLock().unlock();
+        }
+
+        if (!deltas.isEmpty()) {
+            try {
+                bulkRepo.addFavoriteCounts(deltas);
+            } catch (RuntimeException e) {
+                pending.requeue(deltas);
+                restore(carried);
+                log.warn("[SignFavoriteCounter] refresh flush failed, keep current counts: {}", e.toString());
+                return;
+            }
+        }
+        try {
+            stored = bulkRepo.loadFavoriteCounts();
+        } catch (RuntimeException e) {
+            // 증감은 DB 에 들어갔지만 기존 값은 그 전 기준이라 조회 보정분은 유지
+            restore(carried);
+            log.warn("[SignFavoriteCounter] refresh load failed, keep current counts: {}", e.toString());
+        }
+    }
+
+    private void restore(ConcurrentHashMap<Long, LongAdder> carried) {
+        carried.forEach((id, a) -> sinceRefresh.computeIfAbsent(id, k -> new LongAdder()).add(a.sum()));
+    }
+
+    /** sign_favorites 기준 보정 (한 인스턴스만, 차이만 더함) */
+    @Scheduled(cron = "${sign.favorite.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        boolean ran = dbLock.tryRun(RECONCILE_LOCK, () -> {
+            flush();
+            Map<Long, Long> first = bulkRepo.loadFavoriteDrift();
+            if (first.isEmpty()) {
+                log.info("[SignFavoriteCounter] reconciled. no drift");
+                return;
+            }
+            sleepQuietly(reconcileSettleMs);
+            Map<Long, Long> second = bulkRepo.loadFavoriteDrift();
+
+            Map<Long, Long> fixes = new HashMap<>();
+            first.forEach((id, d) -> {
+                if (d.equals(second.get(id))) fixes.put(id, d);
+            });
+            bulkRepo.addFavoriteCounts(fixes);
+            log.info("[SignFavoriteCounter] reconciled. fixedRows={} unsettledRows={}",
+                    fixes.size(), first.size() - fixes.size());
+        });
+        if (!ran) {
+            log.info("[SignFavoriteCounter] reconcile running on another instance. skip.");
+            return;
+        }
+        refresh();
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("즐겨찾기 수 보정이 중단되었습니다.", e);
+        }
+    }
+
+    /** 자동완성 순위가 이 값을 쓰므로 카탈로그보다 먼저 적재 */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
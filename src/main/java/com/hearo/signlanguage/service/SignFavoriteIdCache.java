@@ -0,0 +1,92 @@
+package com.hearo.signlanguage.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hearo.global.tx.AfterCommit;
+import com.hearo.signlanguage.repository.SignFavoriteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자별 즐겨찾기 수어 id 집합 캐시 (정렬된 long[])
+ * - 목록/검색/상세에서 페이지 전체의 favorite 여부를 추가 쿼리 없이 판단
+ * - 추가/삭제는 커밋 후 캐시에 있는 배열만 새 배열로 교체 (write-through), 없으면 다음 조회 때 적재
+ * - write-through 는 이 인스턴스만 갱신 → 다른 인스턴스의 토글은 expireAfterWrite 주기 안에서만 늦게 보인다
+ */
+@Component
+@RequiredArgsConstructor
+public class SignFavoriteIdCache {
+
+    private static final long[] NONE = new long[0];
+
+    private final SignFavoriteRepository favoriteRepo;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sign.favorite.id-cache.max-users:50000}")
+    private long maxUsers;
+
+    @Value("${sign.favorite.id-cache.expire-minutes:5}")
+    private long expireMinutes;
+
+    private LoadingCache<Long, long[]> cache;
+
+    @PostConstruct
+    void initCache() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "signFavoriteIds");
+    }
+
+    /** 비로그인이면 항상 false */
+    public LongPredicate membership(Long userIdOrNull) {
+        if (userIdOrNull == null) return id -> false;
+        long[] ids = cache.get(userIdOrNull);
+        return id -> Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public void onAdded(Long userId, Long signId) {
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId, (k, ids) -> with(ids, signId)));
+    }
+
+    public void onRemoved(Long userId, Long signId) {
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId, (k, ids) -> without(ids, signId)));
+    }
+
+    private long[] load(Long userId) {
+        long[] ids = favoriteRepo.findSignEntryIdsByUserId(userId).stream().mapToLong(Long::longValue).toArray();
+        if (ids.length == 0) return NONE;
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static long[] with(long[] ids, long id) {
+        int i = Arrays.binarySearch(ids, id);
+        if (i >= 0) return ids;
+        int at = -i - 1;
+        long[] out = new long[ids.length + 1];
+        System.arraycopy(ids, 0, out, 0, at);
+        out[at] = id;
+        System.arraycopy(ids, at, out, at + 1, ids.length - at);
+        return out;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        int i = Arrays.binarySearch(ids, id);
+        if (i < 0) return ids;
+        long[] out = new long[ids.length - 1];
+        System.arraycopy(ids, 0, out, 0, i);
+        System.arraycopy(ids, i + 1, out, i, ids.length - i - 1);
+        return out;
+    }
+}
@@ -0,0 +1,192 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.global.exception.ApiException;
+import com.hearo.global.external.AimdLimiter;
+import com.hearo.signlanguage.client.SignApiClient;
+import com.hearo.signlanguage.dto.SignPageDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+import static com.hearo.global.external.ExternalCallExecutor.isTooManyRequests;
+import static com.hearo.global.external.ExternalCallExecutor.rootName;
+
+/**
+ * 수어 수집 파이프라인 (1회 실행용, 빈 아님)
+ * <pre>
+ *   [fetch 워커 N개, AIMD 동시성] --(bounded queue)--> [writer: 호출 스레드에서 upsert]
+ * </pre>
+ * - 페이지 N+1 을 받는 동안 페이지 N 을 쓰므로 네트워크 대기와 DB 쓰기가 겹친다
+ * - 큐가 차면 fetch 워커가 대기 → DB 가 느릴 때 메모리에 페이지가 쌓이지 않음
+ * - 429/호출 제한/지연이면 동시성 절반 + 해당 페이지 재시도, 일일 한도 초과면 전체 중단
+ * - writer 는 호출 스레드에서 돌기 때문에 호출부의 트랜잭션 경계를 그대로 따른다
+ * - 재개 시 이미 반영된 페이지(skipPages)는 건너뛰고, 지난 회차 실패 페이지(retryFirst)를 먼저 시도
+ */
+@Slf4j
+class SignIngestPipeline {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_PAGES = 10_000; // 종료 신호를 못 받는 경우 대비
+
+    record Result(int pagesWritten, int totalFetched, List<Integer> failedPages, int peakConcurrency,
+                  boolean quotaExceeded, int totalCount) {}
+
+    /** 요청한 페이지 번호와 응답 (응답 본문의 pageNo 는 누락될 수 있어 요청 번호를 따로 보관) */
+    private record Fetched(int pageNo, SignPageDto page) {}
+
+    private final int pageSize;
+    private final int workers;
+    private final IntFunction<SignPageDto> fetcher;
+    private final ObjIntConsumer<SignPageDto> writer;
+    private final Set<Integer> skipPages;
+
+    private final AimdLimiter limiter;
+    private final BlockingQueue<Fetched> queue;
+    private final ConcurrentLinkedQueue<Integer> retryPages = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, Integer> attempts = new ConcurrentHashMap<>();
+    private final List<Integer> failedPages = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger nextPage = new AtomicInteger(1);
+    private final AtomicInteger lastPage = new AtomicInteger(MAX_PAGES);
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicBoolean stop = new AtomicBoolean(false);
+    private final AtomicBoolean quotaExceeded = new AtomicBoolean(false);
+    private final AtomicReference<RuntimeException> workerError = new AtomicReference<>();
+
+    SignIngestPipeline(int pageSize, int maxConcurrency, int queueCapacity,
+                       Set<Integer> skipPages, List<Integer> retryFirst,
+                       IntFunction<SignPageDto> fetcher, ObjIntConsumer<SignPageDto> writer) {
+        this.pageSize = pageSize;
+        this.workers = Math.max(1, maxConcurrency);
+        this.fetcher = fetcher;
+        this.writer = writer;
+        this.skipPages = Set.copyOf(skipPages);
+        this.retryPages.addAll(retryFirst);
+        this.limiter = new AimdLimiter(1, workers);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    Result run() {
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "sign-ingest-fetch");
+            t.setDaemon(true);
+            return t;
+        });
+        activeWorkers.set(workers);
+        for (int i = 0; i < workers; i++) pool.submit(this::fetchLoop);
+
+        int pagesWritten = 0;
+        int totalFetched = 0;
+        try {
+            while (true) {
+                Fetched f = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (f == null) {
+                    if (activeWorkers.get() == 0 && queue.isEmpty()) break;
+                    continue;
+                }
+                writer.accept(f.page(), f.pageNo());
+                pagesWritten++;
+                totalFetched += f.page().getItems().size();
+                log.info("Sign ingest page written pageNo={} items={} concurrency={}",
+                        f.pageNo(), f.page().getItems().size(), limiter.limit());
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop.set(true);
+            pool.shutdownNow();
+        }
+
+        if (workerError.get() != null) throw workerError.get();
+
+        List<Integer> failed = new ArrayList<>(failedPages);
+        Collections.sort(failed);
+        return new Result(pagesWritten, totalFetched, failed, limiter.peak(), quotaExceeded.get(), totalCount.get());
+    }
+
+    /* ================= fetch 단계 ================= */
+
+    private void fetchLoop() {
+        try {
+            while (!stop.get()) {
+                Integer pageNo = nextPageNo();
+                if (pageNo == null) break;
+
+                limiter.acquire();
+                SignPageDto page;
+                try {
+                    page = fetcher.apply(pageNo);
+                } catch (RuntimeException e) {
+                    limiter.release();
+                    onFetchFailure(pageNo, e);
+                    continue;
+                }
+                limiter.release();
+                limiter.onSuccess();
+
+                if (page.getItems().isEmpty()) {
+                    lastPage.accumulateAndGet(pageNo - 1, Math::min);
+                    continue;
+                }
+                if (page.getTotalCount() > 0) {
+                    totalCount.accumulateAndGet(page.getTotalCount(), Math::max);
+                    int pages = (page.getTotalCount() + pageSize - 1) / pageSize;
+                    lastPage.accumulateAndGet(pages, Math::min);
+                }
+                queue.put(new Fetched(pageNo, page)); // writer 가 밀리면 여기서 대기 (backpressure)
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            workerError.compareAndSet(null, e);
+            stop.set(true);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /** 재시도 대기 페이지 우선, 없으면 반영 안 된 다음 번호 (마지막 페이지를 넘으면 null) */
+    private Integer nextPageNo() {
+        Integer retry = retryPages.poll();
+        if (retry != null) return retry;
+        int p = nextPage.getAndIncrement();
+        while (skipPages.contains(p) && p <= lastPage.get()) p = nextPage.getAndIncrement();
+        return (p <= lastPage.get()) ? p : null;
+    }
+
+    private void onFetchFailure(int pageNo, RuntimeException e) throws InterruptedException {
+        if (SignApiClient.isDailyQuotaExceeded(e)) {
+            quotaExceeded.set(true);
+            stop.set(true);
+            failedPages.add(pageNo);
+            log.warn("Sign ingest daily quota exceeded at pageNo={}, stop all.", pageNo);
+            return;
+        }
+
+        boolean congestion = isTooManyRequests(e) || e instanceof ApiException;
+        if (congestion) limiter.onCongestion();
+
+        int attempt = attempts.merge(pageNo, 1, Integer::sum);
+        if (attempt >= MAX_ATTEMPTS) {
+            failedPages.add(pageNo);
+            log.warn("Sign ingest give up pageNo={} after {} attempts (reason={})", pageNo, attempt, rootName(e));
+            return;
+        }
+
+        log.warn("Sign ingest retry pageNo={} attempt={} congestion={} concurrency={} (reason={})",
+                pageNo, attempt, congestion, limiter.limit(), rootName(e));
+        Thread.sleep((congestion ? 1000L : 300L) * attempt);
+        retryPages.add(pageNo);
+    }
+}
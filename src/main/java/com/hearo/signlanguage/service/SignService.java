@@ -1,112 +1,347 @@
 // file: src/main/java/com/hearo/signlanguage/service/SignService.java
 package com.hearo.signlanguage.service;
 
+import com.hearo.global.dto.CursorSlice;
+import com.hearo.global.exception.ApiException;
+import com.hearo.global.external.ExternalCallExecutor;
+import com.hearo.global.external.RetryPolicy;
+import com.hearo.global.response.ErrorStatus;
+import com.hearo.global.tx.AfterCommit;
+import com.hearo.signlanguage.catalog.SignAutocomplete;
+import com.hearo.signlanguage.catalog.SignBundle;
+import com.hearo.signlanguage.catalog.SignCatalog;
+import com.hearo.signlanguage.catalog.SignCatalogEntry;
+import com.hearo.signlanguage.catalog.SignCatalogSnapshot;
 import com.hearo.signlanguage.client.SignApiClient;
+import com.hearo.signlanguage.client.SignApiResultException;
 import com.hearo.signlanguage.client.dto.SignRawResponse;
+import com.hearo.signlanguage.domain.IngestRun;
+import com.hearo.signlanguage.domain.IngestStatus;
 import com.hearo.signlanguage.domain.SignEntry;
-import com.hearo.signlanguage.domain.SignFavorite;
 import com.hearo.signlanguage.dto.IngestResultDto;
+import com.hearo.signlanguage.dto.SignChangesDto;
 import com.hearo.signlanguage.dto.SignDetailDto;
+import com.hearo.signlanguage.dto.SignFacetsDto;
 import com.hearo.signlanguage.dto.SignFavoriteItemDto;
 import com.hearo.signlanguage.dto.SignFavoriteRow;
 import com.hearo.signlanguage.dto.SignItemDto;
+import com.hearo.signlanguage.dto.SignListItemDto;
 import com.hearo.signlanguage.dto.SignPageDto;
+import com.hearo.signlanguage.dto.SignSuggestionDto;
+import com.hearo.signlanguage.dto.SignSummary;
+import com.hearo.signlanguage.leaderboard.SignLeaderboard;
 import com.hearo.signlanguage.repository.SignEntryBulkRepository;
 import com.hearo.signlanguage.repository.SignEntryRepository;
 import com.hearo.signlanguage.repository.SignFavoriteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SignService {
 
+    // 외부 프록시는 일일 한도 보호를 위해 재시도 없이, 수집은 백그라운드라 길게
+    private static final RetryPolicy PROXY_POLICY  = RetryPolicy.noRetry(8_000);
+    // 수집 재시도는 파이프라인이 동시성 조절과 함께 처리
+    private static final RetryPolicy WORKER_POLICY = RetryPolicy.noRetry(30_000);
+    private static final String INGEST_SOURCE = "SIGN";
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 1000;
+
     private final SignApiClient client;
+    private final ExternalCallExecutor externalCalls;
     private final SignEntryRepository repo;
     private final SignEntryBulkRepository bulkRepo;
     private final SignFavoriteRepository favoriteRepo;
-
-    // ===== 외부 조회 =====
+    private final IngestRunService ingestRuns;
+    private final SignCatalog catalog;
+    private final SignAutocomplete signAutocomplete;
+    private final SignBundle signBundle;
+    private final SignFavoriteCounter favoriteCounter;
+    private final SignFavoriteIdCache favoriteIds;
+    private final SignViewCounter viewCounter;
+    private final SignLeaderboard leaderboard;
+    private final TransactionTemplate tx;
+
+    // 스케줄러/수동 실행이 같은 회차를 동시에 이어받지 않도록
+    private final ReentrantLock ingestLock = new ReentrantLock();
+
+    @Value("${sign.ingest.max-concurrency:4}")
+    private int maxFetchConcurrency;
+
+    @Value("${sign.ingest.queue-capacity:4}")
+    private int ingestQueueCapacity;
+
+    // multi-row upsert 한 문장(=한 트랜잭션)에 담는 행 수
+    @Value("${sign.ingest.write-chunk-size:200}")
+    private int writeChunkSize;
+
+    // ===== 외부 조회 (응답 캐시 경유, 한도 초과 시 마지막 정상 응답) =====
     public SignPageDto externalList(int pageNo, int numOfRows) {
-        SignRawResponse raw = client.fetch(null, pageNo, numOfRows);
+        SignRawResponse raw = externalCalls.await(client.fetchCached(null, pageNo, numOfRows), PROXY_POLICY);
         return toPageDto(raw);
     }
     public SignPageDto externalSearch(String keyword, int pageNo, int numOfRows) {
-        SignRawResponse raw = client.fetch(keyword, pageNo, numOfRows);
+        SignRawResponse raw = externalCalls.await(client.fetchCached(keyword, pageNo, numOfRows), PROXY_POLICY);
         return toPageDto(raw);
     }
 
-    // ===== DB 조회 =====
-    public Page<SignEntry> listFromDb(int page, int size) {
+    // ===== 카탈로그 조회 (스냅샷이 비어 있으면 DB 요약 projection) =====
+    // 트랜잭션 없음: 카탈로그 경로는 커넥션을 잡지 않고, DB 대체 경로는 리포지토리 호출 단위(readOnly) 트랜잭션
+    /** 분류/수집처 필터는 선택 (비어 있으면 전체) */
+    public Page<SignListItemDto> listFromDb(int page, int size, String category, String collection, Long userIdOrNull) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by("id").descending());
-        return repo.findAll(pageable);
+        String cat = blankToNull(category), col = blankToNull(collection);
+        var snapshot = catalog.current();
+        Page<SignSummary> rows;
+        if (!snapshot.isEmpty()) {
+            rows = toPage(snapshot.list(cat, col, (int) pageable.getOffset(), pageable.getPageSize()), pageable);
+        } else {
+            rows = (cat == null && col == null)
+                    ? repo.findSummaries(pageable)
+                    : repo.findSummariesByFacet(cat, col, pageable);
+        }
+        return withFavoriteFlags(rows, userIdOrNull);
     }
-    public Page<SignEntry> searchFromDb(String keyword, int page, int size) {
+    /** 제목/설명 n-gram 검색 (제목 일치 > 접두 > 포함 > 설명 포함 순) */
+    public Page<SignListItemDto> searchFromDb(String keyword, int page, int size, Long userIdOrNull) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by("id").descending());
-        return repo.findByTitleContaining(keyword, pageable);
+        var snapshot = catalog.current();
+        Page<SignSummary> rows = snapshot.isEmpty()
+                ? repo.searchSummaries(keyword, pageable)
+                : toPage(snapshot.search(keyword, (int) pageable.getOffset(), pageable.getPageSize()), pageable);
+        return withFavoriteFlags(rows, userIdOrNull);
+    }
+
+    // ===== 커서 조회 (offset/count 없음, 무한 스크롤용) =====
+    public CursorSlice<SignListItemDto> listAfter(Long afterId, int size, String category, String collection,
+                                                  Long userIdOrNull) {
+        int limit = clampSize(size);
+        String cat = blankToNull(category), col = blankToNull(collection);
+        var snapshot = catalog.current();
+        List<SignSummary> fetched;
+        if (!snapshot.isEmpty()) {
+            fetched = snapshot.listAfter(cat, col, afterId, limit + 1).stream().map(SignCatalogEntry::summary).toList();
+        } else {
+            fetched = (cat == null && col == null)
+                    ? repo.findSummariesBefore(afterOrMax(afterId), PageRequest.of(0, limit + 1))
+                    : repo.findSummariesByFacetBefore(cat, col, afterOrMax(afterId), PageRequest.of(0, limit + 1));
+        }
+        var isFavorite = favoriteIds.membership(userIdOrNull);
+        return CursorSlice.of(fetched, limit, r -> String.valueOf(r.id()))
+                .map(r -> SignListItemDto.of(r, isFavorite.test(r.id())));
+    }
+
+    /** 검색 결과 한 건 + 순위 (커서 생성용) */
+    private record RankedSummary(SignSummary summary, int rank) {}
+
+    /** 커서는 "순위:id" (검색 결과가 순위 → id 내림차순이라 id 만으로는 이어 갈 수 없음) */
+    public CursorSlice<SignListItemDto> searchAfter(String keyword, String after, int size, Long userIdOrNull) {
+        int limit = clampSize(size);
+        Integer afterRank = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            String[] parts = after.split(":", 2);
+            try {
+                afterRank = Integer.parseInt(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다. after=" + after);
+            }
+        }
+
+        var snapshot = catalog.current();
+        List<RankedSummary> fetched = snapshot.isEmpty()
+                ? repo.searchSummariesBefore(keyword, afterOrMax(afterId), PageRequest.of(0, limit + 1))
+                        .stream().map(r -> new RankedSummary(r, 0)).toList()
+                : snapshot.searchAfter(keyword, afterRank, afterId, limit + 1)
+                        .stream().map(h -> new RankedSummary(h.entry().summary(), h.rank())).toList();
+        var isFavorite = favoriteIds.membership(userIdOrNull);
+        return CursorSlice.of(fetched, limit, r -> r.rank() + ":" + r.summary().id())
+                .map(r -> SignListItemDto.of(r.summary(), isFavorite.test(r.summary().id())));
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+    }
+
+    private static long afterOrMax(Long afterId) {
+        return (afterId == null) ? Long.MAX_VALUE : afterId;
+    }
+
+    private static String blankToNull(String s) {
+        return (s == null || s.isBlank()) ? null : s.trim();
+    }
+
+    /** 분류/수집처 값별 건수 (카탈로그 기준, 적재 전이면 빈 목록) */
+    public SignFacetsDto facets(String category, String collection) {
+        return catalog.current().facets(blankToNull(category), blankToNull(collection));
+    }
+
+    private static Page<SignSummary> toPage(SignCatalogSnapshot.Slice slice, Pageable pageable) {
+        return new PageImpl<>(slice.items().stream().map(SignCatalogEntry::summary).toList(), pageable, slice.totalCount());
+    }
+
+    /** 페이지 전체의 즐겨찾기 여부를 캐시된 id 집합 하나로 판단 (행마다 쿼리하지 않음) */
+    private Page<SignListItemDto> withFavoriteFlags(Page<SignSummary> rows, Long userIdOrNull) {
+        var isFavorite = favoriteIds.membership(userIdOrNull);
+        return rows.map(r -> SignListItemDto.of(r, isFavorite.test(r.id())));
+    }
+
+    // ===== 인기/급상승 (메모리 top-K, 카탈로그에 있는 항목만) =====
+    public List<SignListItemDto> popular(int limit, Long userIdOrNull) {
+        return rankedItems(leaderboard.popular(clampRankLimit(limit)), userIdOrNull);
+    }
+    public List<SignListItemDto> trending(int limit, Long userIdOrNull) {
+        return rankedItems(leaderboard.trending(clampRankLimit(limit)), userIdOrNull);
+    }
+    private List<SignListItemDto> rankedItems(List<Long> ids, Long userIdOrNull) {
+        var snapshot = catalog.current();
+        var isFavorite = favoriteIds.membership(userIdOrNull);
+        return ids.stream()
+                .map(snapshot::findById)
+                .flatMap(Optional::stream)
+                .map(e -> SignListItemDto.of(e.summary(), isFavorite.test(e.id())))
+                .toList();
+    }
+    private static int clampRankLimit(int limit) {
+        return Math.max(1, Math.min(limit, SignLeaderboard.MAX_K));
+    }
+
+    /** 제목 자동완성 (초성/자모 접두, 즐겨찾기·조회수 순) */
+    public List<SignSuggestionDto> autocomplete(String query, int limit) {
+        return signAutocomplete.suggest(query, limit).stream()
+                .map(e -> SignSuggestionDto.builder()
+                        .id(e.id())
+                        .localId(e.localId())
+                        .title(e.title())
+                        .thumbnailUrl(e.thumbnailUrl())
+                        .build())
+                .toList();
+    }
+
+    // ===== 오프라인 번들 / 증분 동기화 =====
+    public SignBundle.Bundle bundle() {
+        return signBundle.current()
+                .orElseThrow(() -> new ApiException(ErrorStatus.RESOURCE_NOT_FOUND, "수어 번들이 아직 준비되지 않았습니다."));
+    }
+
+    /**
+     * since 이후 내용이 바뀐 항목 ((version, id) 오름차순)
+     * @param since "버전" 또는 이전 응답의 nextSince("버전:id"), 없으면 처음부터
+     */
+    public SignChangesDto changesSince(String since, int size) {
+        long sinceVersion = -1, afterId = 0; // since 없으면 수집 전(version 0) 행까지 전부
+        if (since != null && !since.isBlank()) {
+            String[] parts = since.split(":", 2);
+            try {
+                sinceVersion = Long.parseLong(parts[0]);
+                if (parts.length > 1) afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 since 값입니다. since=" + since);
+            }
+        }
+        int limit = Math.max(1, Math.min(size, MAX_CHANGES_SIZE));
+
+        var snapshot = catalog.current();
+        List<SignCatalogEntry> fetched = snapshot.isEmpty()
+                ? repo.findChangedAfter(sinceVersion, afterId, PageRequest.of(0, limit + 1))
+                        .stream().map(SignCatalogEntry::from).toList()
+                : snapshot.changesAfter(sinceVersion, afterId, limit + 1);
+        boolean hasNext = fetched.size() > limit;
+        List<SignCatalogEntry> items = hasNext ? fetched.subList(0, limit) : fetched;
+        SignCatalogEntry last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return SignChangesDto.builder()
+                .version(snapshot.isEmpty() ? bulkRepo.loadMaxRowVersion() : snapshot.version())
+                .items(List.copyOf(items))
+                .hasNext(hasNext)
+                .nextSince((last == null) ? sinceVersion + ":" + afterId : last.version() + ":" + last.id())
+                .build();
     }
 
-    // ===== 상세보기 =====
+    // ===== 상세보기 (카탈로그에 없으면 DB: 마지막 교체 이후 추가된 항목 대비) =====
     public SignDetailDto getDetailById(Long id, Long userIdOrNull) {
-        SignEntry e = repo.findById(id).orElseThrow(() ->
-                new IllegalArgumentException("수어 항목을 찾을 수 없습니다. id=" + id));
+        SignCatalogEntry e = catalog.current().findById(id)
+                .or(() -> repo.findById(id).map(SignCatalogEntry::from))
+                .orElseThrow(() -> new IllegalArgumentException("수어 항목을 찾을 수 없습니다. id=" + id));
+        recordView(e.id());
         return toDetailDto(e, userIdOrNull);
     }
     public SignDetailDto getDetailByLocalId(String localId, Long userIdOrNull) {
-        SignEntry e = repo.findByLocalId(localId).orElseThrow(() ->
-                new IllegalArgumentException("수어 항목을 찾을 수 없습니다. localId=" + localId));
+        SignCatalogEntry e = catalog.current().findByLocalId(localId)
+                .or(() -> repo.findByLocalId(localId).map(SignCatalogEntry::from))
+                .orElseThrow(() -> new IllegalArgumentException("수어 항목을 찾을 수 없습니다. localId=" + localId));
+        recordView(e.id());
         return toDetailDto(e, userIdOrNull);
     }
-    private SignDetailDto toDetailDto(SignEntry e, Long userIdOrNull) {
-        boolean isFav = (userIdOrNull != null)
-                && favoriteRepo.existsByUserIdAndSignEntryId(userIdOrNull, e.getId());
-        long favCount = favoriteRepo.countBySignEntryId(e.getId());
+    private void recordView(Long signId) {
+        viewCounter.record(signId);
+        leaderboard.onView(signId);
+    }
+    private SignDetailDto toDetailDto(SignCatalogEntry e, Long userIdOrNull) {
+        boolean isFav = favoriteIds.membership(userIdOrNull).test(e.id());
+        long favCount = favoriteCounter.count(e.id());
 
         return SignDetailDto.builder()
-                .id(e.getId())
-                .localId(e.getLocalId())
-                .title(e.getTitle())
-                .videoUrl(e.getVideoUrl())
-                .thumbnailUrl(e.getThumbnailUrl())
-                .signDescription(e.getSignDescription())
-                .images(splitCsv(e.getImagesCsv()))
-                .sourceUrl(e.getSourceUrl())
-                .collectionDb(e.getCollectionDb())
-                .categoryType(e.getCategoryType())
-                .viewCount(e.getViewCount())
+                .id(e.id())
+                .localId(e.localId())
+                .title(e.title())
+                .videoUrl(e.videoUrl())
+                .thumbnailUrl(e.thumbnailUrl())
+                .signDescription(e.signDescription())
+                .images(e.images())
+                .sourceUrl(e.sourceUrl())
+                .collectionDb(e.collectionDb())
+                .categoryType(e.categoryType())
+                .viewCount(e.viewCount())
                 .favorite(isFav)
                 .favoriteCount(favCount)
-                .createdAt(e.getCreatedAt())
-                .modifiedAt(e.getModifiedAt())
+                .createdAt(e.createdAt())
+                .modifiedAt(e.modifiedAt())
                 .build();
     }
 
-    // ===== 즐겨찾기 토글/조회 =====
+    // ===== 즐겨찾기 토글/조회 (각각 한 문장, 카운트는 write-behind) =====
     @Transactional
     public void addFavorite(Long userId, Long signId) {
         validateUserId(userId);
-        SignEntry entry = repo.findById(signId).orElseThrow(() ->
-                new IllegalArgumentException("수어 항목을 찾을 수 없습니다. id=" + signId));
-        if (favoriteRepo.existsByUserIdAndSignEntryId(userId, signId)) return; // 멱등
-        favoriteRepo.save(SignFavorite.of(userId, entry));
+        // INSERT IGNORE 는 FK 오류도 무시하므로 존재 여부는 카탈로그(없으면 DB)로 확인
+        if (catalog.current().findById(signId).isEmpty() && !repo.existsById(signId)) {
+            throw new IllegalArgumentException("수어 항목을 찾을 수 없습니다. id=" + signId);
+        }
+        if (favoriteRepo.insertIgnore(userId, signId) == 1) { // 이미 있으면 멱등
+            favoriteCounter.add(signId, 1);
+            favoriteIds.onAdded(userId, signId);
+            AfterCommit.run(() -> leaderboard.onFavorite(signId, 1));
+        }
     }
 
     @Transactional
     public void removeFavorite(Long userId, Long signId) {
         validateUserId(userId);
-        favoriteRepo.deleteByUserIdAndSignEntryId(userId, signId); // 존재하지 않아도 멱등
+        if (favoriteRepo.deleteFavorite(userId, signId) == 1) { // 없어도 멱등
+            favoriteCounter.add(signId, -1);
+            favoriteIds.onRemoved(userId, signId);
+            AfterCommit.run(() -> leaderboard.onFavorite(signId, -1));
+        }
     }
 
     /** 마이페이지용: 내가 찜한 수어 리스트(최신순 페이지) */
@@ -138,129 +373,174 @@ public class SignService {
         if (userId == null || userId <= 0) throw new IllegalArgumentException("유효한 사용자 ID가 필요합니다.");
     }
 
-    // ===== 수집(순차) =====
-    @Transactional
+    /** 크래시/재배포로 끊겨 바로 이어갈 회차가 있는지 */
+    public boolean hasInterruptedIngest(int pageSize) {
+        return ingestRuns.findInterrupted(INGEST_SOURCE, pageSize).isPresent();
+    }
+
+    // ===== 수집(순차: fetch 1개 + 쓰기 겹침) =====
     public IngestResultDto ingestAll(int pageSize) {
-        int pageNo = 1;
-        int totalFetched = 0;
+        return runIngest(pageSize, 1);
+    }
 
-        log.info("Sign ingest start pageSize={}", pageSize);
+    // ===== 수집(병렬: AIMD 로 동시 fetch 수 조절) =====
+    public IngestResultDto ingestAllParallel(int pageSize) {
+        return runIngest(pageSize, maxFetchConcurrency);
+    }
 
-        while (true) {
-            SignPageDto page;
+    /**
+     * 청크 단위로 커밋하며 페이지별 체크포인트를 남긴다 (중단돼도 반영된 페이지는 다음 실행에서 건너뜀)
+     * - 회차 전체를 하나의 트랜잭션으로 묶지 않음 → 실패 시 롤백으로 진행분을 잃지 않도록
+     * - 시작 시 localId -> content_hash 를 메모리에 올려 바뀐 행만 DB 로 보냄
+     */
+    private IngestResultDto runIngest(int pageSize, int maxConcurrency) {
+        if (!ingestLock.tryLock()) throw new IllegalStateException("이미 수어 수집이 진행 중입니다.");
+        try {
+            IngestRun run = ingestRuns.startOrResume(INGEST_SOURCE, pageSize);
+            Long runId = run.getId();
+            Set<Integer> committed = ingestRuns.committedPages(runId);
+            List<Integer> retryFirst = ingestRuns.failedPages(runId);
+            log.info("Sign ingest start runId={} resume={} pageSize={} maxConcurrency={} skipPages={} retryFirst={}",
+                    runId, run.getResumeCount(), pageSize, maxConcurrency, committed.size(), retryFirst);
+
+            Map<String, SignEntryBulkRepository.KnownRow> known = bulkRepo.loadKnownRows();
+            long[] lastRowVersion = { bulkRepo.loadMaxRowVersion() };
+            var contiguous = new TreeSet<>(committed);
+            int[] lastContiguous = { run.getLastCommittedPage() };
+            List<String> changedLocalIds = new ArrayList<>();
+
+            var pipeline = new SignIngestPipeline(pageSize, maxConcurrency, ingestQueueCapacity,
+                    committed, retryFirst,
+                    pageNo -> fetchPage(pageNo, pageSize, WORKER_POLICY),
+                    (page, pageNo) -> {
+                        contiguous.add(pageNo);
+                        while (contiguous.contains(lastContiguous[0] + 1)) lastContiguous[0]++;
+                        changedLocalIds.addAll(writePage(runId, pageNo, page.getItems(), lastContiguous[0],
+                                known, lastRowVersion));
+                    });
+
+            SignIngestPipeline.Result result;
             try {
-                page = fetchPageWithRetry(pageNo, pageSize, 6, 600);
+                result = pipeline.run();
             } catch (RuntimeException e) {
-                log.warn("Sign ingest skip pageNo={} (reason={})", pageNo, rootName(e));
-                pageNo++;
-                continue;
+                ingestRuns.finish(runId, IngestStatus.FAILED, null, List.of(), e.toString());
+                throw e;
             }
 
-            if (page.getItems().isEmpty()) {
-                log.info("Sign ingest reached empty page. stop at pageNo={}", pageNo);
-                break;
-            }
+            IngestStatus status = result.quotaExceeded() ? IngestStatus.QUOTA_EXCEEDED
+                    : result.failedPages().isEmpty() ? IngestStatus.COMPLETED
+                    : IngestStatus.PARTIAL;
+            Integer totalCount = (result.totalCount() > 0) ? result.totalCount() : null;
+            IngestRun done = ingestRuns.finish(runId, status, totalCount, result.failedPages(), null);
 
-            int[] res = bulkRepo.upsertBatch(page.getItems());
-            totalFetched += page.getItems().size();
-            log.info("Sign ingest page done pageNo={} items={} affectedRows~={}",
-                    pageNo, page.getItems().size(), res.length);
+            refreshCatalog(changedLocalIds);
 
-            pageNo++;
+            log.info("Sign ingest done runId={} status={} pages={} totalFetched={} failedPages={} peakConcurrency={}",
+                    runId, done.getStatus(), result.pagesWritten(), result.totalFetched(),
+                    result.failedPages(), result.peakConcurrency());
+            return toResultDto(done, ingestRuns.failedPages(runId));
+        } finally {
+            ingestLock.unlock();
         }
-
-        log.info("Sign ingest done totalFetched={}", totalFetched);
-        return new IngestResultDto(-1, totalFetched, -1, -1, pageSize);
     }
 
-    // ===== 수집(병렬) =====
-    @Transactional
-    public IngestResultDto ingestAllParallel(int pageSize) {
-        final int WORKERS = 1;          // 동시 API 호출 수 (429 방지)
-        final int STOP_AFTER_EMPTY = 8; // 빈 페이지 연속 N회면 종료
-        final int START_PAGE = 1;
-
-        AtomicInteger nextPage = new AtomicInteger(START_PAGE);
-        AtomicInteger totalFetched = new AtomicInteger(0);
-        AtomicInteger emptyStreak = new AtomicInteger(0);
-        AtomicBoolean stopAll = new AtomicBoolean(false);
-
-        log.info("Sign ingest (parallel) start pageSize={} workers={}", pageSize, WORKERS);
-
-        ExecutorService pool = Executors.newFixedThreadPool(WORKERS);
-        CopyOnWriteArrayList<Future<?>> futures = new CopyOnWriteArrayList<>();
-
-        for (int workerIdx = 0; workerIdx < WORKERS; workerIdx++) {
-            final int idx = workerIdx;
-            Future<?> future = pool.submit(() -> {
-                while (!stopAll.get() && emptyStreak.get() < STOP_AFTER_EMPTY) {
-                    int pageNo = nextPage.getAndIncrement();
-                    SignPageDto page;
-
-                    try {
-                        page = fetchPageWithRetry(pageNo, pageSize, 0, 0);
-                    } catch (RuntimeException e) {
-                        if (isDailyQuotaExceeded(e) || isTooManyRequests(e)) {
-                            stopAll.set(true);
-                            log.warn("Worker={} quota exceeded/429 at pageNo={}, stop all.",
-                                    idx, pageNo);
-                            break;
-                        }
-                        if (isTransient(e)) {
-                            log.warn("Worker={} transient error pageNo={} (reason={}), skip.",
-                                    idx, pageNo, rootName(e));
-                            continue;
-                        }
-                        log.warn("Worker={} non-retryable error pageNo={} (reason={}), skip.",
-                                idx, pageNo, rootName(e));
-                        continue;
-                    }
-
-                    if (page.getItems().isEmpty()) {
-                        int streak = emptyStreak.incrementAndGet();
-                        log.info("Worker={} got empty page pageNo={}, emptyStreak={}/{}",
-                                idx, pageNo, streak, STOP_AFTER_EMPTY);
-                        continue;
-                    } else {
-                        emptyStreak.set(0);
-                    }
-
-                    int[] res = bulkRepo.upsertBatch(page.getItems());
-                    totalFetched.addAndGet(page.getItems().size());
-
-                    log.info("Worker={} pageNo={} done, items={}, affectedRows~={}",
-                            idx, pageNo, page.getItems().size(), res.length);
-                }
-            });
-            futures.add(future);
+    /**
+     * 새 행/내용이 바뀐 행만 청크 단위 multi-row upsert, 청크마다 커밋
+     * - 체크포인트는 페이지 마지막 청크와 같은 트랜잭션 (중간에 끊기면 페이지를 다시 받지만 반영된 청크는 unchanged 로 건너뜀)
+     * - known 은 커밋된 청크만 갱신
+     * - 내용이 같고 외부 viewCount 만 바뀐 행은 view_count 만 UPDATE (row_version 그대로 → /changes 에 안 잡힘)
+     * - 청크마다 이전보다 큰 row_version 을 찍음 (증분 동기화 기준, 쓰기는 한 스레드라 배열 홀더로 충분)
+     * @return DB 로 보낸 행의 localId (카탈로그 반영 대상)
+     */
+    private List<String> writePage(Long runId, int pageNo, List<SignItemDto> items, int lastContiguousPage,
+                           Map<String, SignEntryBulkRepository.KnownRow> known, long[] lastRowVersion) {
+        List<SignItemDto> changed = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        Map<String, Integer> viewCountOnly = new HashMap<>();
+        int inserted = 0, updated = 0, unchanged = 0;
+        for (SignItemDto it : items) {
+            String hash = SignEntry.contentHashOf(it);
+            var prev = known.get(it.getLocalId());
+            if (prev == null) inserted++;
+            else if (hash.equals(prev.contentHash())) {
+                unchanged++;
+                if (!Objects.equals(prev.viewCount(), it.getViewCount())) viewCountOnly.put(it.getLocalId(), it.getViewCount());
+                continue;
+            }
+            else updated++;
+            changed.add(it);
+            hashes.add(hash);
         }
 
-        for (Future<?> f : futures) {
-            try {
-                f.get();
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            } catch (ExecutionException ee) {
-                log.warn("Parallel ingest worker error: {}", rootName(ee));
+        int chunk = Math.max(1, writeChunkSize);
+        int from = 0;
+        do {
+            int to = Math.min(from + chunk, changed.size());
+            boolean last = (to == changed.size());
+            List<SignItemDto> part = changed.subList(from, to);
+            List<String> partHashes = hashes.subList(from, to);
+            int ins = inserted, upd = updated, unch = unchanged;
+            long rowVersion = Math.max(System.currentTimeMillis(), lastRowVersion[0] + 1);
+            tx.executeWithoutResult(st -> {
+                bulkRepo.upsertBatch(part, partHashes, rowVersion);
+                if (last) {
+                    bulkRepo.updateViewCounts(viewCountOnly);
+                    ingestRuns.recordCommitted(runId, pageNo, items.size(), ins, upd, unch, lastContiguousPage);
+                }
+            });
+            lastRowVersion[0] = rowVersion;
+            for (int k = 0; k < part.size(); k++) {
+                known.put(part.get(k).getLocalId(),
+                        new SignEntryBulkRepository.KnownRow(partHashes.get(k), part.get(k).getViewCount()));
             }
-        }
+            from = to;
+        } while (from < changed.size());
+        viewCountOnly.forEach((localId, views) ->
+                known.computeIfPresent(localId, (k, prev) -> new SignEntryBulkRepository.KnownRow(prev.contentHash(), views)));
+
+        List<String> touched = new ArrayList<>(changed.size() + viewCountOnly.size());
+        changed.forEach(it -> touched.add(it.getLocalId()));
+        touched.addAll(viewCountOnly.keySet());
+        return touched;
+    }
 
-        pool.shutdownNow();
+    /** 카탈로그가 비어 있으면 전체 적재, 아니면 이번 실행에서 바뀐 행만 반영 */
+    private void refreshCatalog(List<String> changedLocalIds) {
+        try {
+            if (catalog.current().isEmpty()) catalog.reload();
+            else catalog.applyUpserts(changedLocalIds);
+        } catch (Exception e) {
+            log.warn("Sign catalog reload failed, keep previous snapshot: {}", e.toString());
+        }
+    }
 
-        log.info("Sign ingest (parallel) done totalFetched~={}", totalFetched.get());
-        return new IngestResultDto(-1, totalFetched.get(), -1, -1, pageSize);
+    private static IngestResultDto toResultDto(IngestRun run, List<Integer> failedPages) {
+        return IngestResultDto.builder()
+                .runId(run.getId())
+                .status(run.getStatus())
+                .resumeCount(run.getResumeCount())
+                .totalCount(run.getTotalCount() != null ? run.getTotalCount() : -1)
+                .totalFetched(run.getTotalFetched())
+                .inserted(run.getInserted())
+                .updated(run.getUpdated())
+                .unchanged(run.getUnchanged())
+                .pagesCommitted(run.getPagesCommitted())
+                .lastCommittedPage(run.getLastCommittedPage())
+                .failedPages(failedPages)
+                .pageSize(run.getPageSize())
+                .build();
     }
 
     // ===== 내부 헬퍼 =====
-    private SignPageDto fetchPage(int pageNo, int pageSize) {
-        SignRawResponse raw = client.fetch(null, pageNo, pageSize);
+    private SignPageDto fetchPage(int pageNo, int pageSize, RetryPolicy policy) {
+        SignRawResponse raw = externalCalls.await(client.fetch(null, pageNo, pageSize), policy);
         if (raw == null || raw.getResponse() == null || raw.getResponse().getHeader() == null) {
             throw new IllegalStateException("외부 API 응답 파싱 실패");
         }
         var header = raw.getResponse().getHeader();
         if (!"0000".equals(header.getResultCode())) {
-            String msg = (header.getResultMsg() != null) ? header.getResultMsg() : "외부 API 오류";
-            throw new IllegalStateException("KCISA API 오류: " + msg);
+            // 수집 파이프라인이 resultCode(22 = 일일 한도)로 중단 여부를 판단
+            throw new SignApiResultException(header.getResultCode(), header.getResultMsg());
         }
         var body = raw.getResponse().getBody();
 
@@ -277,64 +557,10 @@ public class SignService {
                 .items(list)
                 .pageNo(parseIntDefault(pageNoStr, 1))
                 .numOfRows(parseIntDefault(numOfRowsStr, list.size()))
-                .totalCount(list.size())
+                .totalCount(parseIntDefault(body != null ? body.getTotalCount() : null, 0))
                 .build();
     }
 
-    private SignPageDto fetchPageWithRetry(int pageNo, int pageSize, int maxRetry, long baseBackoffMs) {
-        int attempt = 0;
-        while (true) {
-            try {
-                return fetchPage(pageNo, pageSize);
-            } catch (RuntimeException ex) {
-                attempt++;
-                if (attempt > maxRetry || !isTransient(ex)) {
-                    throw ex;
-                }
-                long sleep = (long) (baseBackoffMs * Math.pow(1.6, attempt - 1));
-                if (isTooManyRequests(ex)) sleep += 2000L;
-                try {
-                    Thread.sleep(sleep);
-                } catch (InterruptedException ignored) {
-                    Thread.currentThread().interrupt();
-                    throw ex;
-                }
-            }
-        }
-    }
-
-    private boolean isTransient(Throwable t) {
-        if (t instanceof WebClientRequestException) return true;
-        if (t instanceof WebClientResponseException wex) {
-            int s = wex.getStatusCode().value();
-            return s == 429 || s == 502 || s == 503 || s == 504;
-        }
-        Throwable c = t.getCause();
-        while (c != null) {
-            if (c instanceof java.net.SocketTimeoutException
-                    || c instanceof io.netty.handler.timeout.ReadTimeoutException) return true;
-            c = c.getCause();
-        }
-        return false;
-    }
-    private boolean isTooManyRequests(Throwable t) {
-        if (t instanceof WebClientResponseException wex) return wex.getStatusCode().value() == 429;
-        return false;
-    }
-    private boolean isDailyQuotaExceeded(Throwable t) {
-        if (t instanceof WebClientResponseException wex) {
-            try {
-                String body = wex.getResponseBodyAsString();
-                if (body != null) return body.toLowerCase().contains("quota exceeded");
-            } catch (Exception ignored) {}
-        }
-        return false;
-    }
-    private String rootName(Throwable t) {
-        Throwable c = t;
-        while (c.getCause() != null) c = c.getCause();
-        return c.getClass().getSimpleName();
-    }
     private SignPageDto toPageDto(SignRawResponse raw) {
         var body = raw.getResponse().getBody();
         var itemsRaw = (body != null && body.getItems() != null)
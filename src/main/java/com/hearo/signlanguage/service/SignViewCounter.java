@@ -0,0 +1,48 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.global.counter.DeltaBuffer;
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 수어 상세 조회 수 (sign_entries.local_view_count) write-behind 버퍼
+ * - 조회 요청은 메모리 카운터만 올리고, 주기적으로 모아서 JDBC 배치 한 번으로 반영
+ * - 프로세스가 죽으면 마지막 주기분은 잃을 수 있음 (인기도 신호용이라 허용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignViewCounter {
+
+    private final SignEntryBulkRepository bulkRepo;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    public void record(Long signId) {
+        pending.add(signId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${sign.view.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            bulkRepo.addLocalViewCounts(deltas);
+        } catch (Exception e) {
+            pending.requeue(deltas);
+            log.warn("[SignViewCounter] flush failed, requeue {} rows: {}", deltas.size(), e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,40 @@
+package com.hearo.community.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CreatedAtCursorTest {
+
+    @Test
+    void null_이나_빈_문자열은_첫_페이지() {
+        assertThat(CreatedAtCursor.parse(null)).isNull();
+        assertThat(CreatedAtCursor.parse("  ")).isNull();
+    }
+
+    @Test
+    void encode_한_값을_그대로_되돌린다() {
+        CreatedAtCursor c = new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 12, 34, 56, 789_000_000), 123L);
+        assertThat(CreatedAtCursor.parse(c.encode())).isEqualTo(c);
+    }
+
+    @Test
+    void 앞뒤_공백은_무시한다() {
+        assertThat(CreatedAtCursor.parse("2025-01-01T12:34:56 , 7"))
+                .isEqualTo(new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 12, 34, 56), 7L));
+    }
+
+    @Test
+    void 형식이_틀리면_IllegalArgumentException() {
+        assertThatThrownBy(() -> CreatedAtCursor.parse("abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+        assertThatThrownBy(() -> CreatedAtCursor.parse("2025-01-01T00:00,x"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CreatedAtCursor.parse("not-a-date,1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
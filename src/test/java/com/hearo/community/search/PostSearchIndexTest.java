@@ -0,0 +1,160 @@
+package com.hearo.community.search;
+
+import com.hearo.community.domain.PostCategory;
+import com.hearo.community.repository.PostSearchBulkRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    /** DB 대신 메모리 목록을 돌려주는 적재 저장소 */
+    private static class StubRepo extends PostSearchBulkRepository {
+        final List<PostSearchDoc> active = new ArrayList<>();
+        final List<PostSearchDoc> modified = new ArrayList<>();
+        final List<Long> deleted = new ArrayList<>();
+
+        StubRepo() {
+            super(null);
+        }
+
+        @Override
+        public List<PostSearchDoc> loadActiveAfter(long afterId, int limit) {
+            return active.stream().filter(d -> d.id() > afterId).limit(limit).toList();
+        }
+
+        @Override
+        public List<PostSearchDoc> loadActiveModifiedSince(LocalDateTime since, long afterId, int limit) {
+            return modified.stream().filter(d -> d.id() > afterId).limit(limit).toList();
+        }
+
+        @Override
+        public List<Long> loadDeletedIdsSince(LocalDateTime since) {
+            return List.copyOf(deleted);
+        }
+    }
+
+    private static PostSearchDoc doc(long id, String title, String content) {
+        return new PostSearchDoc(id, title, content, PostCategory.GENERAL, Set.of());
+    }
+
+    private static PostSearchIndex built(StubRepo repo) {
+        PostSearchIndex index = new PostSearchIndex(repo);
+        index.rebuild();
+        return index;
+    }
+
+    @Test
+    void 재색인_전에는_준비되지_않음() {
+        PostSearchIndex index = new PostSearchIndex(new StubRepo());
+        assertThat(index.isReady()).isFalse();
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void 조사가_붙은_단어도_bigram_으로_찾는다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "수어를 배우자", "함께 공부해요"));
+        repo.active.add(doc(2, "날씨", "맑음"));
+
+        assertThat(built(repo).search("수어", null, null, 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    void 한_글자_질의는_단어_안의_글자도_찾는다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "수어 공부", "본문"));
+        repo.active.add(doc(2, "날씨", "맑음"));
+
+        PostSearchIndex.Result r = built(repo).search("공", null, null, 0, 10);
+        assertThat(r.total()).isEqualTo(1);
+        assertThat(r.ids()).containsExactly(1L);
+    }
+
+    @Test
+    void 여러_단어는_모두_일치해야_하고_제목_일치가_먼저() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "일상", "수어 모임 후기"));
+        repo.active.add(doc(2, "수어 모임", "후기"));
+        repo.active.add(doc(3, "수어", "다른 이야기"));
+
+        PostSearchIndex.Result r = built(repo).search("수어 모임", null, null, 0, 10);
+        assertThat(r.ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void bigram_이_모두_있어도_단어가_이어져_있지_않으면_찾지_않는다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "abc bca", ""));
+        repo.active.add(doc(2, "", "xabcax"));
+
+        assertThat(built(repo).search("abca", null, null, 0, 10).ids()).containsExactly(2L);
+    }
+
+    @Test
+    void 분류와_태그로_거른다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(new PostSearchDoc(1, "수어 질문", "", PostCategory.QUESTION, Set.of("초보")));
+        repo.active.add(new PostSearchDoc(2, "수어 후기", "", PostCategory.REVIEW, Set.of("초보")));
+        repo.active.add(new PostSearchDoc(3, "수어 질문", "", PostCategory.QUESTION, Set.of()));
+        PostSearchIndex index = built(repo);
+
+        assertThat(index.search("수어", PostCategory.QUESTION, null, 0, 10).ids()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("수어", PostCategory.QUESTION, " 초보 ", 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    void matchesBefore_는_id_내림차순_커서() {
+        StubRepo repo = new StubRepo();
+        for (long id = 1; id <= 5; id++) repo.active.add(doc(id, "수어", ""));
+        PostSearchIndex index = built(repo);
+
+        assertThat(index.matchesBefore("수어", null, null, null, 2)).containsExactly(5L, 4L);
+        assertThat(index.matchesBefore("수어", null, null, 4L, 2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void 커밋_후_반영과_삭제() {
+        PostSearchIndex index = built(new StubRepo());
+
+        index.onUpsert(doc(7, "수어 모임", ""));
+        assertThat(index.search("모임", null, null, 0, 10).ids()).containsExactly(7L);
+
+        index.onUpsert(doc(7, "날씨", ""));
+        assertThat(index.search("모임", null, null, 0, 10).ids()).isEmpty();
+
+        index.onDelete(7L);
+        assertThat(index.search("날씨", null, null, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void evict_는_즉시_제거한다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "수어 공부", ""));
+        repo.active.add(doc(2, "수어 모임", ""));
+        PostSearchIndex index = built(repo);
+
+        index.evict(List.of(1L));
+
+        assertThat(index.search("수어", null, null, 0, 10).ids()).containsExactly(2L);
+    }
+
+    @Test
+    void catchUp_은_다른_인스턴스의_수정과_삭제를_반영한다() {
+        StubRepo repo = new StubRepo();
+        repo.active.add(doc(1, "수어 공부", ""));
+        PostSearchIndex index = built(repo);
+
+        repo.modified.add(doc(2, "수어 모임", ""));
+        repo.deleted.add(1L);
+        index.catchUp();
+
+        assertThat(index.search("수어", null, null, 0, 10).ids()).containsExactly(2L);
+    }
+}
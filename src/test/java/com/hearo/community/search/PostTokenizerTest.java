@@ -0,0 +1,37 @@
+package com.hearo.community.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTokenizerTest {
+
+    @Test
+    void words_소문자화하고_글자숫자가_아닌_문자로_나눈다() {
+        assertThat(PostTokenizer.words("Hello, 수어-공부 2025!")).containsExactly("hello", "수어", "공부", "2025");
+        assertThat(PostTokenizer.words(null)).isEmpty();
+        assertThat(PostTokenizer.words("  ,.! ")).isEmpty();
+    }
+
+    @Test
+    void tokens_3글자_이상은_단어_unigram_bigram() {
+        assertThat(PostTokenizer.tokens("사랑해요"))
+                .containsExactly("사랑해요", "사", "랑", "해", "요", "사랑", "랑해", "해요");
+    }
+
+    @Test
+    void tokens_2글자는_단어와_unigram_만() {
+        assertThat(PostTokenizer.tokens("수어")).containsExactly("수어", "수", "어");
+    }
+
+    @Test
+    void tokens_1글자는_단어_자체만() {
+        assertThat(PostTokenizer.tokens("a 손")).containsExactly("a", "손");
+    }
+
+    @Test
+    void bigrams_2글자_이하는_비어_있다() {
+        assertThat(PostTokenizer.bigrams("수어")).isEmpty();
+        assertThat(PostTokenizer.bigrams("수어학습")).containsExactly("수어", "어학", "학습");
+    }
+}
@@ -0,0 +1,98 @@
+package com.hearo.community.service;
+
+import com.hearo.community.domain.Post;
+import com.hearo.community.dto.CreatedAtCursor;
+import com.hearo.community.dto.PostRes;
+import com.hearo.community.repository.PostLikeRepository;
+import com.hearo.community.repository.PostRepository;
+import com.hearo.community.repository.PostScrapRepository;
+import com.hearo.community.search.PostSearchIndex;
+import com.hearo.global.dto.CursorSlice;
+import com.hearo.user.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostQueryServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PostRepository posts = mock(PostRepository.class);
+    private final PostSearchIndex searchIndex = mock(PostSearchIndex.class);
+    private final PostQueryService service = new PostQueryService(
+            posts, mock(PostLikeRepository.class), mock(PostScrapRepository.class),
+            mock(PostFeedCache.class), mock(PostReactionFlagCache.class), searchIndex);
+
+    private final User author = User.createLocal("a@hearo.com", "pw", "작성자");
+
+    private Post post(long id, boolean deleted) {
+        Post p = Post.create(author, "제목" + id, "본문", null, null);
+        ReflectionTestUtils.setField(p, "id", id);
+        ReflectionTestUtils.setField(p, "createdAt", T0.minusMinutes(id));
+        p.setDeleted(deleted);
+        return p;
+    }
+
+    @Test
+    void 피드_마지막_글이_삭제돼도_다음_페이지와_커서를_유지한다() {
+        when(posts.findFeedIds(any())).thenReturn(List.of(1L, 2L, 3L));
+        when(posts.findWithImagesByIdIn(List.of(1L, 2L))).thenReturn(List.of(post(1, false), post(2, true)));
+
+        CursorSlice<PostRes> slice = service.feed(null, 2, null);
+
+        assertThat(slice.items()).extracting(PostRes::id).containsExactly(1L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.nextCursor()).isEqualTo(new CreatedAtCursor(T0.minusMinutes(2), 2L).encode());
+        verify(searchIndex).evict(List.of(2L));
+    }
+
+    @Test
+    void 피드_마지막_페이지는_다음이_없다() {
+        when(posts.findFeedIds(any())).thenReturn(List.of(1L));
+        when(posts.findWithImagesByIdIn(List.of(1L))).thenReturn(List.of(post(1, false)));
+
+        CursorSlice<PostRes> slice = service.feed(null, 2, null);
+
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+        verify(searchIndex, never()).evict(any());
+    }
+
+    @Test
+    void 검색_결과에_삭제된_글이_섞이면_색인에서_빼고_다시_채운다() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(eq("수어"), any(), any(), eq(0), eq(2)))
+                .thenReturn(new PostSearchIndex.Result(3, List.of(1L, 2L)))
+                .thenReturn(new PostSearchIndex.Result(2, List.of(1L, 3L)));
+        when(posts.findWithImagesByIdIn(List.of(1L, 2L))).thenReturn(List.of(post(1, false), post(2, true)));
+        when(posts.findWithImagesByIdIn(List.of(1L, 3L))).thenReturn(List.of(post(1, false), post(3, false)));
+
+        Page<PostRes> page = service.search("수어", null, null, 0, 2, null);
+
+        assertThat(page.getContent()).extracting(PostRes::id).containsExactly(1L, 3L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        verify(searchIndex).evict(List.of(2L));
+    }
+
+    @Test
+    void 다시_조회해도_삭제_글이_남으면_그만큼_전체_건수에서_뺀다() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(eq("수어"), any(), any(), eq(0), eq(2)))
+                .thenReturn(new PostSearchIndex.Result(5, List.of(1L, 2L)));
+        when(posts.findWithImagesByIdIn(List.of(1L, 2L))).thenReturn(List.of(post(1, false), post(2, true)));
+
+        Page<PostRes> page = service.search("수어", null, null, 0, 2, null);
+
+        assertThat(page.getContent()).extracting(PostRes::id).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        verify(searchIndex, times(3)).search(eq("수어"), any(), any(), eq(0), eq(2));
+    }
+}
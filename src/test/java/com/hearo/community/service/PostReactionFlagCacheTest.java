@@ -0,0 +1,96 @@
+package com.hearo.community.service;
+
+import com.hearo.community.repository.PostLikeRepository;
+import com.hearo.community.repository.PostScrapRepository;
+import com.hearo.community.repository.ReactionChangeBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostReactionFlagCacheTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PostLikeRepository postLikes = mock(PostLikeRepository.class);
+    private final PostScrapRepository postScraps = mock(PostScrapRepository.class);
+    private final ReactionChangeBulkRepository changes = mock(ReactionChangeBulkRepository.class);
+    private final PostReactionFlagCache cache =
+            new PostReactionFlagCache(postLikes, postScraps, changes, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxUsers", 100L);
+        ReflectionTestUtils.setField(cache, "expireMinutes", 5L);
+        ReflectionTestUtils.setField(cache, "maxIdsPerUser", 100);
+        ReflectionTestUtils.setField(cache, "syncOverlapSeconds", 30L);
+        cache.initCache();
+
+        when(postLikes.findRecentPostIdsByUserId(eq(1L), any())).thenReturn(List.of());
+        when(postScraps.findRecentPostIdsByUserId(eq(1L), any())).thenReturn(List.of());
+        when(changes.now()).thenReturn(T0);
+        cache.syncChanges(); // 기준 시각만 잡음
+    }
+
+    @Test
+    void 다른_인스턴스의_토글이_보이면_항목을_비우고_다시_적재한다() {
+        assertThat(cache.liked(1L).test(10L)).isFalse();
+
+        when(postLikes.findRecentPostIdsByUserId(eq(1L), any())).thenReturn(List.of(10L));
+        when(changes.loadChangedSince(T0.minusSeconds(30))).thenReturn(Map.of(1L, T0.plusSeconds(1)));
+        cache.syncChanges();
+
+        assertThat(cache.liked(1L).test(10L)).isTrue();
+    }
+
+    @Test
+    void 겹쳐_읽은_같은_변경으로는_다시_비우지_않는다() {
+        cache.liked(1L);
+        when(changes.loadChangedSince(any())).thenReturn(Map.of(1L, T0.plusSeconds(1)));
+
+        cache.syncChanges();
+        cache.liked(1L);
+        cache.syncChanges();
+        cache.liked(1L);
+
+        verify(postLikes, times(2)).findRecentPostIdsByUserId(eq(1L), any());
+    }
+
+    @Test
+    void 기준_시각은_본_변경_중_가장_늦은_시각으로_나아간다() {
+        when(changes.loadChangedSince(T0.minusSeconds(30))).thenReturn(Map.of(2L, T0.plusSeconds(10)));
+        cache.syncChanges();
+
+        cache.syncChanges();
+
+        verify(changes).loadChangedSince(T0.plusSeconds(10).minusSeconds(30));
+    }
+
+    @Test
+    void 토글은_변경_시각을_남긴다() {
+        cache.onLiked(1L, 10L, true);
+        cache.onScrapped(1L, 10L, false);
+
+        verify(changes, times(2)).touch(1L);
+    }
+
+    @Test
+    void 폴링_실패는_기존_항목을_유지한다() {
+        cache.liked(1L);
+        when(changes.loadChangedSince(any())).thenThrow(new RuntimeException("db down"));
+
+        cache.syncChanges();
+        cache.liked(1L);
+
+        verify(postLikes, times(1)).findRecentPostIdsByUserId(eq(1L), any());
+    }
+}
@@ -0,0 +1,64 @@
+package com.hearo.global.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaBufferTest {
+
+    @Test
+    void drain_은_쌓인_증감을_꺼내고_비운다() {
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 2);
+        buffer.add(1L, 3);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+        buffer.add(3L, 0);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void requeue_는_다음_drain_에_더해진다() {
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 1);
+        Map<Long, Long> failed = buffer.drain();
+        buffer.add(1L, 2);
+
+        buffer.requeue(failed);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L));
+    }
+
+    @Test
+    void 동시에_add_와_drain_이_돌아도_합계를_잃지_않는다() throws Exception {
+        DeltaBuffer buffer = new DeltaBuffer();
+        int threads = 4, perThread = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) buffer.add((long) (i % 3), 1);
+                return null;
+            });
+        }
+
+        long drained = 0;
+        start.countDown();
+        pool.shutdown();
+        while (!pool.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+
+        assertThat(drained).isEqualTo((long) threads * perThread);
+    }
+}
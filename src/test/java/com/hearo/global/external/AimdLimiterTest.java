@@ -0,0 +1,78 @@
+package com.hearo.global.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    @Test
+    void 초기_한도는_1과_max_사이로_맞춘다() {
+        assertThat(new AimdLimiter(0, 4).limit()).isEqualTo(1);
+        assertThat(new AimdLimiter(10, 4).limit()).isEqualTo(4);
+        assertThat(new AimdLimiter(2, 0).limit()).isEqualTo(1);
+    }
+
+    @Test
+    void 한도만큼_성공하면_1_늘고_max_에서_멈춘다() {
+        AimdLimiter l = new AimdLimiter(2, 3);
+        l.onSuccess();
+        assertThat(l.limit()).isEqualTo(2);
+        l.onSuccess();
+        assertThat(l.limit()).isEqualTo(3);
+
+        for (int i = 0; i < 10; i++) l.onSuccess();
+        assertThat(l.limit()).isEqualTo(3);
+        assertThat(l.peak()).isEqualTo(3);
+    }
+
+    @Test
+    void 혼잡이면_절반으로_최소_1() {
+        AimdLimiter l = new AimdLimiter(8, 8);
+        l.onCongestion();
+        assertThat(l.limit()).isEqualTo(4);
+        l.onCongestion();
+        l.onCongestion();
+        l.onCongestion();
+        assertThat(l.limit()).isEqualTo(1);
+        assertThat(l.peak()).isEqualTo(8);
+    }
+
+    @Test
+    void 혼잡은_성공_누적을_초기화한다() {
+        AimdLimiter l = new AimdLimiter(4, 8);
+        l.onSuccess();
+        l.onSuccess();
+        l.onSuccess();
+        l.onCongestion();              // 한도 2, 누적 0
+        l.onSuccess();
+        assertThat(l.limit()).isEqualTo(2);
+        l.onSuccess();
+        assertThat(l.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void 한도가_차면_release_까지_기다린다() throws Exception {
+        AimdLimiter l = new AimdLimiter(1, 1);
+        l.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                l.acquire();
+                acquired.countDown();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertThat(acquired.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        l.release();
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+        waiter.join(1_000);
+    }
+}
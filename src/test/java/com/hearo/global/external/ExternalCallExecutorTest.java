@@ -0,0 +1,96 @@
+package com.hearo.global.external;
+
+import com.hearo.global.exception.ApiException;
+import com.hearo.global.response.ErrorStatus;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalCallExecutorTest {
+
+    private final ExternalCallExecutor executor =
+            new ExternalCallExecutor(CircuitBreakerRegistry.ofDefaults(), RateLimiterRegistry.ofDefaults());
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    /** 앞의 failures 번은 error 로 실패, 그 뒤엔 "ok" */
+    private static Mono<String> failing(AtomicInteger attempts, int failures, RuntimeException error) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures ? Mono.error(error) : Mono.just("ok"));
+    }
+
+    @Test
+    void RetryPolicy_팩토리() {
+        RetryPolicy p = RetryPolicy.of(3, 200, 5_000);
+        assertThat(p.maxRetries()).isEqualTo(3);
+        assertThat(p.firstBackoff()).isEqualTo(Duration.ofMillis(200));
+        assertThat(p.deadline()).isEqualTo(Duration.ofSeconds(5));
+
+        RetryPolicy none = RetryPolicy.noRetry(1_000);
+        assertThat(none.maxRetries()).isZero();
+        assertThat(none.firstBackoff()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void 일시_오류는_재시도해서_성공한다() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = executor.await(failing(attempts, 2, status(503)), RetryPolicy.of(3, 1, 5_000));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void 일시_오류가_아니면_재시도하지_않는다() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThatThrownBy(() -> executor.await(failing(attempts, 5, status(400)), RetryPolicy.of(3, 1, 5_000)))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void 재시도를_다_쓰면_원래_예외를_던진다() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThatThrownBy(() -> executor.await(failing(attempts, 10, status(429)), RetryPolicy.of(2, 1, 5_000)))
+                .isInstanceOf(WebClientResponseException.class)
+                .satisfies(e -> assertThat(ExternalCallExecutor.isTooManyRequests(e)).isTrue());
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void 제한_시간을_넘기면_EXTERNAL_ERROR() {
+        assertThatThrownBy(() -> executor.await(Mono.never(), RetryPolicy.noRetry(50)))
+                .isInstanceOf(ApiException.class)
+                .satisfies(e -> assertThat(((ApiException) e).getErrorStatus()).isEqualTo(ErrorStatus.EXTERNAL_ERROR));
+    }
+
+    @Test
+    void 호출량_제한은_EXTERNAL_ERROR_로_감싸고_원인을_남긴다() {
+        RequestNotPermitted denied = RequestNotPermitted.createRequestNotPermitted(RateLimiter.ofDefaults("test"));
+
+        assertThatThrownBy(() -> executor.await(Mono.error(denied), RetryPolicy.noRetry(1_000)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorStatus()).isEqualTo(ErrorStatus.EXTERNAL_ERROR))
+                .hasCause(denied);
+    }
+
+    @Test
+    void 일시_오류_판정() {
+        assertThat(ExternalCallExecutor.isTransient(status(502))).isTrue();
+        assertThat(ExternalCallExecutor.isTransient(status(404))).isFalse();
+        assertThat(ExternalCallExecutor.isTransient(new RuntimeException(new java.net.SocketTimeoutException()))).isTrue();
+        assertThat(ExternalCallExecutor.isTransient(new IllegalStateException("x"))).isFalse();
+    }
+}
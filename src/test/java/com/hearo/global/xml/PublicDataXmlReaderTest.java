@@ -0,0 +1,77 @@
+package com.hearo.global.xml;
+
+import com.hearo.global.xml.PublicDataXmlReader.Fields;
+import com.hearo.global.xml.PublicDataXmlReader.Section;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicDataXmlReaderTest {
+
+    private static final String XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <response>
+              <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+              <body>
+                <items>
+                  <item><rno>1</rno><jobNm>바리스타</jobNm></item>
+                  <item><rno>2</rno><jobNm> 사무 보조 </jobNm><detail><x>무시</x></detail></item>
+                </items>
+                <numOfRows>10</numOfRows><pageNo>1</pageNo><totalCount>2</totalCount>
+              </body>
+            </response>
+            """;
+
+    /** 멀티바이트 문자 중간에서도 끊기도록 작은 조각으로 나눔 */
+    private static Flux<DataBuffer> chunks(String xml, int size) {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> out = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            out.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, i, Math.min(i + size, bytes.length))));
+        }
+        return Flux.fromIterable(out);
+    }
+
+    @Test
+    void header_item_body_순서로_방출한다() {
+        List<Fields> fields = PublicDataXmlReader.read(chunks(XML, 7), 1 << 20).collectList().block();
+
+        assertThat(fields).extracting(Fields::section)
+                .containsExactly(Section.HEADER, Section.ITEM, Section.ITEM, Section.BODY);
+        assertThat(fields.get(0).get("resultCode")).isEqualTo("00");
+        assertThat(fields.get(1).get("jobNm")).isEqualTo("바리스타");
+        assertThat(fields.get(3).get("totalCount")).isEqualTo("2");
+    }
+
+    @Test
+    void 값은_trim_하고_자식이_있는_요소는_값으로_보지_않는다() {
+        List<Fields> fields = PublicDataXmlReader.read(chunks(XML, 64), 1 << 20).collectList().block();
+
+        Fields second = fields.get(2);
+        assertThat(second.get("jobNm")).isEqualTo("사무 보조");
+        assertThat(second.values()).containsOnlyKeys("rno", "jobNm");
+    }
+
+    @Test
+    void 구독마다_상태를_새로_만든다() {
+        Flux<Fields> flux = PublicDataXmlReader.read(Flux.defer(() -> chunks(XML, 16)), 1 << 20);
+        assertThat(flux.collectList().block()).hasSize(4);
+        assertThat(flux.collectList().block()).hasSize(4);
+    }
+
+    @Test
+    void 상한을_넘으면_DataBufferLimitException() {
+        assertThatThrownBy(() -> PublicDataXmlReader.read(chunks(XML, XML.length() * 4), 64).collectList().block())
+                .isInstanceOf(DataBufferLimitException.class);
+    }
+}
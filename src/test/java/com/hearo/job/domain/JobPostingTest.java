@@ -0,0 +1,34 @@
+package com.hearo.job.domain;
+
+import com.hearo.job.dto.JobDetailDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobPostingTest {
+
+    @Test
+    void fitToColumns_는_컬럼보다_긴_값만_자른다() {
+        JobDetailDto d = JobDetailDto.builder()
+                .rno("R1")
+                .jobNm("가".repeat(300))
+                .salary("월 250만원")
+                .regDt("2025-01-01 00:00:00.000000")
+                .build();
+
+        JobDetailDto fitted = JobPosting.fitToColumns(d);
+
+        assertThat(fitted.getRno()).isEqualTo("R1");
+        assertThat(fitted.getJobNm()).hasSize(255);
+        assertThat(fitted.getSalary()).isEqualTo("월 250만원");
+        assertThat(fitted.getRegDt()).hasSize(20);
+        assertThat(fitted.getCompAddr()).isNull();
+    }
+
+    @Test
+    void fitToColumns_결과는_다시_적용해도_같다() {
+        JobDetailDto d = JobDetailDto.builder().rno("R1").compAddr("서".repeat(600)).build();
+        JobDetailDto once = JobPosting.fitToColumns(d);
+        assertThat(JobPosting.fitToColumns(once)).isEqualTo(once);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hearo.job.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    @Test
+    void docGrams_는_토큰별_unigram_과_bigram() {
+        assertThat(JobSearchIndex.docGrams("서울 강남구"))
+                .containsExactlyInAnyOrder("서", "울", "서울", "강", "남", "구", "강남", "남구");
+    }
+
+    @Test
+    void docGrams_는_공백을_넘는_bigram_을_만들지_않는다() {
+        assertThat(JobSearchIndex.docGrams("서울 강남구")).doesNotContain("울강");
+    }
+
+    @Test
+    void queryGrams_는_bigram_만_1글자_토큰은_그대로() {
+        assertThat(JobSearchIndex.queryGrams("강남구 시")).containsExactlyInAnyOrder("강남", "남구", "시");
+    }
+
+    @Test
+    void 질의_gram_은_문서_gram_에_포함된다() {
+        assertThat(JobSearchIndex.docGrams("경기도 성남시 분당구"))
+                .containsAll(JobSearchIndex.queryGrams("성남"))
+                .containsAll(JobSearchIndex.queryGrams("남"));
+    }
+
+    @Test
+    void 빈_문자열은_gram_없음() {
+        assertThat(JobSearchIndex.docGrams("   ")).isEmpty();
+        assertThat(JobSearchIndex.queryGrams(null)).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.hearo.signlanguage.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignCatalogSnapshotTest {
+
+    private static SignCatalogEntry entry(long id, String title) {
+        return new SignCatalogEntry(id, "L" + id, title, null, null, null, null, List.of(),
+                null, null, null, 0, null, null, 0);
+    }
+
+    private static SignCatalogSnapshot snapshot(SignCatalogEntry... entries) {
+        return SignCatalogSnapshot.of(List.of(entries), LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<SignCatalogEntry> entries) {
+        return entries.stream().map(SignCatalogEntry::id).toList();
+    }
+
+    @Test
+    void listAfter_는_id_내림차순으로_커서_다음부터() {
+        SignCatalogSnapshot snap = snapshot(entry(1, "a"), entry(5, "b"), entry(3, "c"), entry(9, "d"));
+
+        assertThat(ids(snap.listAfter(null, 2))).containsExactly(9L, 5L);
+        assertThat(ids(snap.listAfter(5L, 2))).containsExactly(3L, 1L);
+        assertThat(ids(snap.listAfter(1L, 2))).isEmpty();
+    }
+
+    @Test
+    void listAfter_커서_id_가_지워졌어도_그보다_작은_id_부터() {
+        SignCatalogSnapshot snap = snapshot(entry(1, "a"), entry(3, "c"), entry(9, "d"));
+
+        assertThat(ids(snap.listAfter(5L, 10))).containsExactly(3L, 1L);
+        assertThat(ids(snap.listAfter(100L, 1))).containsExactly(9L);
+    }
+
+    @Test
+    void searchAfter_는_순위_다음_id_내림차순으로_이어진다() {
+        // 일치(0): 7 / 접두(1): 8, 2 / 포함(2): 9, 4
+        SignCatalogSnapshot snap = snapshot(
+                entry(2, "사과나무"), entry(4, "빨간사과"), entry(7, "사과"),
+                entry(8, "사과즙"), entry(9, "풋사과"), entry(10, "배"));
+
+        List<SignCatalogSnapshot.Hit> all = new ArrayList<>();
+        Integer rank = null;
+        Long id = null;
+        while (true) {
+            List<SignCatalogSnapshot.Hit> page = snap.searchAfter("사과", rank, id, 2);
+            if (page.isEmpty()) break;
+            all.addAll(page);
+            SignCatalogSnapshot.Hit last = page.get(page.size() - 1);
+            rank = last.rank();
+            id = last.entry().id();
+        }
+
+        assertThat(all).extracting(h -> h.entry().id()).containsExactly(7L, 8L, 2L, 9L, 4L);
+        assertThat(all).extracting(SignCatalogSnapshot.Hit::rank).containsExactly(0, 1, 1, 2, 2);
+    }
+
+    @Test
+    void searchAfter_빈_질의는_목록_커서와_같다() {
+        SignCatalogSnapshot snap = snapshot(entry(1, "a"), entry(2, "b"), entry(3, "c"));
+
+        assertThat(snap.searchAfter(" ", null, 3L, 10)).extracting(h -> h.entry().id()).containsExactly(2L, 1L);
+        assertThat(snap.searchAfter("", 1, 3L, 10)).isEmpty();
+    }
+
+    @Test
+    void 빈_스냅샷은_빈_목록() {
+        assertThat(SignCatalogSnapshot.EMPTY.listAfter(null, 10)).isEmpty();
+        assertThat(SignCatalogSnapshot.EMPTY.searchAfter("사과", null, null, 10)).isEmpty();
+    }
+}
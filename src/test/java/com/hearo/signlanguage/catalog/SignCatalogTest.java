@@ -0,0 +1,82 @@
+package com.hearo.signlanguage.catalog;
+
+import com.hearo.signlanguage.domain.SignEntry;
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import com.hearo.signlanguage.repository.SignEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SignCatalogTest {
+
+    private final SignEntryRepository repo = mock(SignEntryRepository.class);
+    private final SignEntryBulkRepository bulkRepo = mock(SignEntryBulkRepository.class);
+    private final SignCatalog catalog =
+            new SignCatalog(repo, bulkRepo, mock(SignAutocomplete.class), mock(SignBundle.class));
+
+    private static SignEntry entry(long id, long rowVersion) {
+        return SignEntry.builder().id(id).localId("L" + id).title("수어" + id).rowVersion(rowVersion).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(repo.findAll()).thenReturn(List.of(entry(1, 1), entry(2, 1)));
+        catalog.reload();
+        clearInvocations(repo);
+    }
+
+    @Test
+    void 스탬프가_같으면_아무것도_읽지_않는다() {
+        when(bulkRepo.loadCatalogStamp()).thenReturn(new SignEntryBulkRepository.CatalogStamp(1, 2));
+
+        catalog.reloadIfChanged();
+
+        verifyNoInteractions(repo);
+        verify(bulkRepo, never()).loadLocalIdsChangedAfter(anyLong());
+    }
+
+    @Test
+    void 버전이_올라가면_새_행만_읽어_반영한다() {
+        when(bulkRepo.loadCatalogStamp()).thenReturn(new SignEntryBulkRepository.CatalogStamp(2, 3));
+        when(bulkRepo.loadLocalIdsChangedAfter(1)).thenReturn(List.of("L2", "L3"));
+        when(repo.findAllByLocalIdIn(List.of("L2", "L3"))).thenReturn(List.of(entry(2, 2), entry(3, 2)));
+
+        catalog.reloadIfChanged();
+
+        verify(repo, never()).findAll();
+        assertThat(catalog.current().size()).isEqualTo(3);
+        assertThat(catalog.current().version()).isEqualTo(2);
+        assertThat(catalog.current().findById(2L)).get().extracting(SignCatalogEntry::version).isEqualTo(2L);
+    }
+
+    @Test
+    void 반영_후에도_건수가_다르면_전체_적재() {
+        // 다른 곳에서 행이 지워진 경우 (증분으로는 알 수 없음)
+        when(bulkRepo.loadCatalogStamp()).thenReturn(new SignEntryBulkRepository.CatalogStamp(2, 2));
+        when(bulkRepo.loadLocalIdsChangedAfter(1)).thenReturn(List.of("L3"));
+        when(repo.findAllByLocalIdIn(anyList())).thenReturn(List.of(entry(3, 2)));
+        when(repo.findAll()).thenReturn(List.of(entry(2, 1), entry(3, 2)));
+
+        catalog.reloadIfChanged();
+
+        verify(repo).findAll();
+        assertThat(catalog.current().findById(1L)).isEmpty();
+        assertThat(catalog.current().size()).isEqualTo(2);
+    }
+
+    @Test
+    void 버전은_같고_건수만_다르면_전체_적재() {
+        when(bulkRepo.loadCatalogStamp()).thenReturn(new SignEntryBulkRepository.CatalogStamp(1, 1));
+        when(repo.findAll()).thenReturn(List.of(entry(2, 1)));
+
+        catalog.reloadIfChanged();
+
+        verify(bulkRepo, never()).loadLocalIdsChangedAfter(anyLong());
+        assertThat(catalog.current().size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.hearo.signlanguage.client;
+
+import com.hearo.global.exception.ApiException;
+import com.hearo.global.response.ErrorStatus;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignApiClientTest {
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    private static ApiException wrapped(Throwable cause) {
+        return new ApiException(ErrorStatus.EXTERNAL_ERROR, "외부 API 오류", cause);
+    }
+
+    @Test
+    void 한도_초과와_차단은_그대로든_감싸졌든_인식한다() {
+        var denied = RequestNotPermitted.createRequestNotPermitted(RateLimiter.ofDefaults("test"));
+        var open = CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test"));
+
+        assertThat(SignApiClient.isQuotaOrThrottled(status(429))).isTrue();
+        assertThat(SignApiClient.isQuotaOrThrottled(denied)).isTrue();
+        assertThat(SignApiClient.isQuotaOrThrottled(wrapped(denied))).isTrue();
+        assertThat(SignApiClient.isQuotaOrThrottled(wrapped(open))).isTrue();
+        assertThat(SignApiClient.isQuotaOrThrottled(wrapped(status(429)))).isTrue();
+        assertThat(SignApiClient.isQuotaOrThrottled(wrapped(new SignApiResultException("22", "LIMITED")))).isTrue();
+    }
+
+    @Test
+    void 다른_외부_오류는_한도_초과가_아니다() {
+        assertThat(SignApiClient.isQuotaOrThrottled(status(500))).isFalse();
+        assertThat(SignApiClient.isQuotaOrThrottled(wrapped(new RuntimeException(new TimeoutException())))).isFalse();
+        assertThat(SignApiClient.isQuotaOrThrottled(new ApiException(ErrorStatus.EXTERNAL_ERROR))).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package com.hearo.signlanguage.leaderboard;
+
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import com.hearo.signlanguage.repository.SignTrendScoreBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SignLeaderboardTest {
+
+    private final SignEntryBulkRepository entryBulkRepo = mock(SignEntryBulkRepository.class);
+    private final SignLeaderboard leaderboard =
+            new SignLeaderboard(entryBulkRepo, mock(SignTrendScoreBulkRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaderboard, "halfLifeHours", 24d);
+    }
+
+    @Test
+    void popular_은_DB_값에_이_인스턴스_이벤트를_더해_순위를_낸다() {
+        // 1: 즐겨찾기 1 (10점), 2: 조회 5
+        when(entryBulkRepo.loadEngagement()).thenReturn(Map.of(1L, new long[]{1, 0}, 2L, new long[]{0, 5}));
+        leaderboard.reseedPopular();
+        for (int i = 0; i < 6; i++) leaderboard.onView(2L);
+
+        leaderboard.refresh();
+
+        assertThat(leaderboard.popular(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 재적재하면_다른_인스턴스의_반영분으로_기준이_바뀐다() {
+        when(entryBulkRepo.loadEngagement()).thenReturn(Map.of(1L, new long[]{0, 3}, 2L, new long[]{0, 1}));
+        leaderboard.reseedPopular();
+        leaderboard.onView(2L);
+        leaderboard.refresh();
+        assertThat(leaderboard.popular(10)).containsExactly(1L, 2L);
+
+        // 다른 인스턴스에서 2번 즐겨찾기가 반영됨 (이 인스턴스의 조회 1건도 flush 됨)
+        when(entryBulkRepo.loadEngagement()).thenReturn(Map.of(1L, new long[]{0, 3}, 2L, new long[]{1, 2}));
+        leaderboard.reseedPopular();
+        leaderboard.refresh();
+
+        assertThat(leaderboard.popular(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 재적재_실패면_기존_점수_유지() {
+        when(entryBulkRepo.loadEngagement()).thenReturn(Map.of(1L, new long[]{0, 3}));
+        leaderboard.reseedPopular();
+        when(entryBulkRepo.loadEngagement()).thenThrow(new RuntimeException("db down"));
+
+        leaderboard.reseedPopular();
+        leaderboard.refresh();
+
+        assertThat(leaderboard.popular(10)).containsExactly(1L);
+    }
+}
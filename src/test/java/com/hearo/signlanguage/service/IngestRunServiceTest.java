@@ -0,0 +1,135 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.signlanguage.domain.IngestRun;
+import com.hearo.signlanguage.domain.IngestStatus;
+import com.hearo.signlanguage.repository.IngestCheckpointRepository;
+import com.hearo.signlanguage.repository.IngestRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IngestRunServiceTest {
+
+    private static final String SOURCE = "SIGN";
+    private static final int PAGE_SIZE = 500;
+
+    private final IngestRunRepository runRepo = mock(IngestRunRepository.class);
+    private final IngestCheckpointRepository checkpointRepo = mock(IngestCheckpointRepository.class);
+    private final IngestRunService service = new IngestRunService(runRepo, checkpointRepo);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "resumeWindowHours", 20L);
+        ReflectionTestUtils.setField(service, "quotaResumeWindowHours", 30L);
+        ReflectionTestUtils.setField(service, "heartbeatStaleMinutes", 15L);
+        when(runRepo.save(any(IngestRun.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private static IngestRun run(IngestStatus status, LocalDateTime createdAt, LocalDateTime heartbeatAt) {
+        IngestRun r = IngestRun.builder()
+                .id(7L).source(SOURCE).status(status).pageSize(PAGE_SIZE).heartbeatAt(heartbeatAt)
+                .build();
+        ReflectionTestUtils.setField(r, "createdAt", createdAt);
+        return r;
+    }
+
+    private void lastRun(IngestRun r) {
+        when(runRepo.findFirstBySourceOrderByIdDesc(SOURCE)).thenReturn(Optional.of(r));
+        when(runRepo.findById(r.getId())).thenReturn(Optional.of(r));
+    }
+
+    @Test
+    void 이전_회차가_없으면_새_회차() {
+        when(runRepo.findFirstBySourceOrderByIdDesc(SOURCE)).thenReturn(Optional.empty());
+
+        IngestRun r = service.startOrResume(SOURCE, PAGE_SIZE);
+
+        assertThat(r.getStatus()).isEqualTo(IngestStatus.RUNNING);
+        verify(runRepo).save(any(IngestRun.class));
+    }
+
+    @Test
+    void heartbeat_가_살아있는_회차가_있으면_시작하지_않는다() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.RUNNING, now.minusHours(1), now.minusMinutes(1)));
+
+        assertThatThrownBy(() -> service.startOrResume(SOURCE, PAGE_SIZE)).isInstanceOf(IllegalStateException.class);
+        verify(runRepo, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void 기간_안의_PARTIAL_회차는_claim_으로_이어받는다() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.PARTIAL, now.minusHours(2), now.minusHours(1)));
+        when(runRepo.claim(eq(7L), eq(IngestStatus.RUNNING), any(), any())).thenReturn(1);
+
+        IngestRun r = service.startOrResume(SOURCE, PAGE_SIZE);
+
+        assertThat(r.getId()).isEqualTo(7L);
+        verify(runRepo, never()).save(any());
+    }
+
+    @Test
+    void claim_에_지면_예외() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.FAILED, now.minusHours(2), now.minusHours(1)));
+        when(runRepo.claim(any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> service.startOrResume(SOURCE, PAGE_SIZE)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 기간이_지난_PARTIAL_은_새_회차() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.PARTIAL, now.minusHours(23), now.minusHours(22)));
+
+        service.startOrResume(SOURCE, PAGE_SIZE);
+
+        verify(runRepo, never()).claim(any(), any(), any(), any());
+        verify(runRepo).save(any(IngestRun.class));
+    }
+
+    @Test
+    void 한도_초과_회차는_다음_날_정기_실행에서_이어받는다() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.QUOTA_EXCEEDED, now.minusHours(24), now.minusHours(22)));
+        when(runRepo.claim(any(), any(), any(), any())).thenReturn(1);
+
+        assertThat(service.startOrResume(SOURCE, PAGE_SIZE).getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void 페이지_크기가_다르면_이어받지_않는다() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.PARTIAL, now.minusHours(1), now.minusHours(1)));
+
+        service.startOrResume(SOURCE, 100);
+
+        verify(runRepo, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void findInterrupted_는_끊긴_RUNNING_을_찾고_한도_초과는_제외() {
+        LocalDateTime now = LocalDateTime.now();
+        lastRun(run(IngestStatus.RUNNING, now.minusHours(1), now.minusMinutes(30)));
+        assertThat(service.findInterrupted(SOURCE, PAGE_SIZE)).isPresent();
+
+        lastRun(run(IngestStatus.RUNNING, now.minusHours(1), now.minusMinutes(1)));
+        assertThat(service.findInterrupted(SOURCE, PAGE_SIZE)).isEmpty();
+
+        lastRun(run(IngestStatus.QUOTA_EXCEEDED, now.minusHours(1), now.minusHours(1)));
+        assertThat(service.findInterrupted(SOURCE, PAGE_SIZE)).isEmpty();
+
+        lastRun(run(IngestStatus.COMPLETED, now.minusHours(1), now.minusHours(1)));
+        assertThat(service.findInterrupted(SOURCE, PAGE_SIZE)).isEmpty();
+    }
+}
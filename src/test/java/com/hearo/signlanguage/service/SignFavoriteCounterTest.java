@@ -0,0 +1,112 @@
+package com.hearo.signlanguage.service;
+
+import com.hearo.global.lock.DbLock;
+import com.hearo.signlanguage.repository.SignEntryBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SignFavoriteCounterTest {
+
+    private final SignEntryBulkRepository bulkRepo = mock(SignEntryBulkRepository.class);
+    private final DbLock dbLock = mock(DbLock.class);
+    private final SignFavoriteCounter counter = new SignFavoriteCounter(bulkRepo, dbLock);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counter, "reconcileSettleMs", 0L);
+        when(bulkRepo.loadFavoriteCounts()).thenReturn(Map.of(1L, 10L));
+        counter.refresh();
+    }
+
+    private void lockAcquired() {
+        when(dbLock.tryRun(eq("sign-favorite-reconcile"), any(Runnable.class))).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    void 조회는_읽어둔_값에_이_인스턴스의_증감을_더한다() {
+        counter.add(1L, 1);
+        counter.add(2L, 1);
+        counter.add(2L, -1);
+
+        assertThat(counter.count(1L)).isEqualTo(11);
+        assertThat(counter.count(2L)).isZero();
+        assertThat(counter.count(3L)).isZero();
+    }
+
+    @Test
+    void flush_는_모은_증감을_보내고_조회값은_그대로() {
+        counter.add(1L, 1);
+        counter.add(1L, 1);
+
+        counter.flush();
+
+        verify(bulkRepo).addFavoriteCounts(Map.of(1L, 2L));
+        assertThat(counter.count(1L)).isEqualTo(12);
+    }
+
+    @Test
+    void flush_실패분은_다음_flush_에_다시_보낸다() {
+        when(bulkRepo.addFavoriteCounts(anyMap())).thenThrow(new RuntimeException("db down")).thenReturn(new int[]{1});
+        counter.add(1L, 1);
+
+        counter.flush();
+        counter.flush();
+
+        verify(bulkRepo, times(2)).addFavoriteCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    void refresh_는_증감을_반영한_뒤_다시_읽고_보정분을_비운다() {
+        counter.add(1L, 1);
+        when(bulkRepo.loadFavoriteCounts()).thenReturn(Map.of(1L, 14L)); // 다른 인스턴스 +3 포함
+
+        counter.refresh();
+
+        verify(bulkRepo).addFavoriteCounts(Map.of(1L, 1L));
+        assertThat(counter.count(1L)).isEqualTo(14);
+    }
+
+    @Test
+    void refresh_읽기_실패면_기존값과_보정분_유지() {
+        counter.add(1L, 1);
+        when(bulkRepo.loadFavoriteCounts()).thenThrow(new RuntimeException("db down"));
+
+        counter.refresh();
+
+        assertThat(counter.count(1L)).isEqualTo(11);
+    }
+
+    @Test
+    void reconcile_은_두_번_같게_나온_차이만_더한다() {
+        lockAcquired();
+        when(bulkRepo.loadFavoriteDrift())
+                .thenReturn(Map.of(1L, -2L, 2L, 1L))
+                .thenReturn(Map.of(1L, -2L, 2L, 3L));
+
+        counter.reconcile();
+
+        verify(bulkRepo).addFavoriteCounts(Map.of(1L, -2L));
+        verify(bulkRepo, times(2)).loadFavoriteCounts(); // 보정 후 다시 읽음
+    }
+
+    @Test
+    void 다른_인스턴스가_보정_중이면_건너뛴다() {
+        when(dbLock.tryRun(eq("sign-favorite-reconcile"), any(Runnable.class))).thenReturn(false);
+
+        counter.reconcile();
+
+        verify(bulkRepo, never()).loadFavoriteDrift();
+    }
+}